@@ -53,6 +53,8 @@ public class ComponentCompactionBenchmark {
   private Component alreadyCompactedInput;
   private Component simpleScenarioInput;
   private Component moreComplexInput;
+  private Component wide1kInput;
+  private Component wide10kInput;
 
   @Setup(Level.Trial)
   public void prepare() {
@@ -85,6 +87,18 @@ public class ComponentCompactionBenchmark {
           .append(text("on Adventure!"))
         ))
         .build();
+
+    this.wide1kInput = wide(1_000);
+    this.wide10kInput = wide(10_000);
+  }
+
+  // a flat list of children, like a joined tab list or chat log, with runs of mergeable siblings
+  private static Component wide(final int children) {
+    final TextComponent.Builder builder = text();
+    for (int i = 0; i < children; i++) {
+      builder.append(text("entry " + i, i % 8 == 0 ? NamedTextColor.GOLD : NamedTextColor.GRAY));
+    }
+    return builder.build();
   }
 
   @Benchmark
@@ -102,6 +116,16 @@ public class ComponentCompactionBenchmark {
     return this.moreComplexInput.compact();
   }
 
+  @Benchmark
+  public Component wide1k() {
+    return this.wide1kInput.compact();
+  }
+
+  @Benchmark
+  public Component wide10k() {
+    return this.wide10kInput.compact();
+  }
+
   public static void main(final String[] args) throws RunnerException {
     final Options opt = new OptionsBuilder()
       .include(ComponentCompactionBenchmark.class.getSimpleName())
@@ -0,0 +1,110 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static net.kyori.adventure.text.Component.text;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextReplacementBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  public int children;
+
+  private Component input;
+  private TextReplacementConfig absentLiteral;
+  private TextReplacementConfig sparseLiteral;
+  private TextReplacementConfig sparsePattern;
+  private TextReplacementConfig manyLiterals;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    // a chat log like tree, where one in sixteen entries mentions the placeholder
+    final TextComponent.Builder builder = text();
+    for (int i = 0; i < this.children; i++) {
+      builder.append(text()
+        .content("entry " + i + (i % 16 == 0 ? " says %player% joined" : " says hello there"))
+        .color(i % 2 == 0 ? NamedTextColor.GRAY : NamedTextColor.WHITE)
+        .append(text(" [" + i + "]", NamedTextColor.DARK_GRAY)));
+    }
+    this.input = builder.build();
+
+    this.absentLiteral = TextReplacementConfig.builder().matchLiteral("%absent%").replacement("x").build();
+    this.sparseLiteral = TextReplacementConfig.builder().matchLiteral("%player%").replacement(text("Steve", NamedTextColor.GOLD)).build();
+    this.sparsePattern = TextReplacementConfig.builder().match("%pl[a]yer%").replacement(text("Steve", NamedTextColor.GOLD)).build();
+    final String[] words = new String[200];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = "word" + i;
+    }
+    words[0] = "hello";
+    this.manyLiterals = TextReplacementConfig.builder().matchAnyLiteral(words).replacement("****").build();
+  }
+
+  @Benchmark
+  public Component absentLiteral() {
+    return this.input.replaceText(this.absentLiteral);
+  }
+
+  @Benchmark
+  public Component sparseLiteral() {
+    return this.input.replaceText(this.sparseLiteral);
+  }
+
+  @Benchmark
+  public Component sparsePattern() {
+    return this.input.replaceText(this.sparsePattern);
+  }
+
+  @Benchmark
+  public Component manyLiterals() {
+    return this.input.replaceText(this.manyLiterals);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options opt = new OptionsBuilder()
+      .include(TextReplacementBenchmark.class.getSimpleName())
+      .forks(1)
+      .build();
+
+    new Runner(opt).run();
+  }
+
+}
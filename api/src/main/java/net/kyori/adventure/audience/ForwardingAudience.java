@@ -52,6 +52,9 @@ import org.jetbrains.annotations.UnknownNullability;
  * <p><code>ForwardingAudience</code> is designed to easily allow users or
  * implementations wrap an existing (collection of) <code>Audience</code>(s).</p>
  *
+ * <p>Messages sent to members implementing {@link RenderedMessageReceiver} are rendered
+ * once for all members sharing a renderer and render key, such as a locale.</p>
+ *
  * @see Audience
  * @since 4.0.0
  */
@@ -97,12 +100,12 @@ public interface ForwardingAudience extends Audience {
 
   @Override
   default void sendMessage(final @NotNull Identified source, final @NotNull Component message, final @NotNull MessageType type) {
-    for (final Audience audience : this.audiences()) audience.sendMessage(source, message, type);
+    RenderedBroadcast.sendMessage(this.audiences(), source, source.identity(), message, type);
   }
 
   @Override
   default void sendMessage(final @NotNull Identity source, final @NotNull Component message, final @NotNull MessageType type) {
-    for (final Audience audience : this.audiences()) audience.sendMessage(source, message, type);
+    RenderedBroadcast.sendMessage(this.audiences(), null, source, message, type);
   }
 
   @Override
@@ -0,0 +1,68 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.kyori.adventure.identity.Identified;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sends a message to many audiences, rendering it once for each group of {@link RenderedMessageReceiver}s.
+ */
+final class RenderedBroadcast {
+  private RenderedBroadcast() {
+  }
+
+  static void sendMessage(final @NotNull Iterable<? extends Audience> audiences, final @Nullable Identified identified, final @NotNull Identity source, final @NotNull Component message, final @NotNull MessageType type) {
+    // payloads by render key, by renderer
+    @Nullable Map<RenderedMessageReceiver.Renderer<?>, Map<Object, Object>> payloads = null;
+    for (final Audience audience : audiences) {
+      if (audience instanceof RenderedMessageReceiver<?>) {
+        if (payloads == null) payloads = new HashMap<>();
+        send((RenderedMessageReceiver<?>) audience, payloads, source, message, type);
+      } else if (identified != null) {
+        audience.sendMessage(identified, message, type);
+      } else {
+        audience.sendMessage(source, message, type);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <P> void send(final @NotNull RenderedMessageReceiver<P> receiver, final @NotNull Map<RenderedMessageReceiver.Renderer<?>, Map<Object, Object>> payloads, final @NotNull Identity source, final @NotNull Component message, final @NotNull MessageType type) {
+    final RenderedMessageReceiver.Renderer<P> renderer = receiver.messageRenderer();
+    final Map<Object, Object> group = payloads.computeIfAbsent(renderer, key -> new HashMap<>());
+    final Object key = renderer.renderKey(receiver);
+    P payload = (P) group.get(key);
+    if (payload == null) {
+      payload = renderer.render(message, receiver);
+      group.put(key, payload);
+    }
+    receiver.sendRenderedMessage(source, payload, type);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.audience;
+
+import java.util.Locale;
+import java.util.function.Function;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An audience able to receive a message that has already been rendered for it.
+ *
+ * <p>When a {@link ForwardingAudience} sends a message, members implementing this interface are
+ * grouped by their {@link #messageRenderer() renderer} and its {@link Renderer#renderKey(Audience) render key}.
+ * The message is rendered once per group, and the resulting payload is handed to every member of that group,
+ * instead of each member rendering the same message by itself.</p>
+ *
+ * @param <P> the payload type
+ * @since 4.10.0
+ */
+public interface RenderedMessageReceiver<P> extends Audience {
+  /**
+   * Gets the renderer producing payloads for this audience.
+   *
+   * <p>Payloads are only shared between audiences with equal renderers,
+   * so implementations should share a single renderer between their audiences.</p>
+   *
+   * @return the renderer
+   * @since 4.10.0
+   */
+  @ApiStatus.OverrideOnly
+  @NotNull Renderer<P> messageRenderer();
+
+  /**
+   * Sends a chat message which has already been rendered for this audience.
+   *
+   * @param source the identity of the source of the message
+   * @param message the rendered message
+   * @param type the type of message
+   * @since 4.10.0
+   */
+  @ApiStatus.OverrideOnly
+  void sendRenderedMessage(final @NotNull Identity source, final @NotNull P message, final @NotNull MessageType type);
+
+  /**
+   * Renders messages into payloads for {@link RenderedMessageReceiver}s.
+   *
+   * @param <P> the payload type
+   * @since 4.10.0
+   */
+  interface Renderer<P> {
+    /**
+     * Creates a renderer which translates messages using the {@link GlobalTranslator}
+     * for the {@link Identity#LOCALE locale} of an audience, and then converts them into a payload.
+     *
+     * @param serializer the function converting a translated message into a payload
+     * @param <P> the payload type
+     * @return a renderer
+     * @since 4.10.0
+     */
+    static <P> @NotNull Renderer<P> translating(final @NotNull Function<? super Component, ? extends P> serializer) {
+      requireNonNull(serializer, "serializer");
+      return (message, audience) -> {
+        final Locale locale = audience.getOrDefault(Identity.LOCALE, null);
+        return serializer.apply(locale == null ? message : GlobalTranslator.render(message, locale));
+      };
+    }
+
+    /**
+     * Gets the key grouping audiences that receive the same payload for a message.
+     *
+     * <p>By default, audiences are grouped by their {@link Identity#LOCALE locale}.</p>
+     *
+     * @param audience the audience
+     * @return the render key
+     * @since 4.10.0
+     */
+    default @Nullable Object renderKey(final @NotNull Audience audience) {
+      return audience.getOrDefault(Identity.LOCALE, null);
+    }
+
+    /**
+     * Renders a message for an audience.
+     *
+     * <p>The payload is shared with every other audience that has the same render key.</p>
+     *
+     * @param message the message
+     * @param audience the first audience of its group to receive the message
+     * @return the payload
+     * @since 4.10.0
+     */
+    @NotNull P render(final @NotNull Component message, final @NotNull Audience audience);
+  }
+}
@@ -44,11 +44,15 @@ import org.jetbrains.annotations.Nullable;
 @Debug.Renderer(text = "this.debuggerString()", childrenArray = "this.children().toArray()", hasChildren = "!this.children().isEmpty()")
 @Deprecated
 public abstract class AbstractComponent implements Component {
+  private static final byte CONTAINS_TRANSLATABLE = 1;
+  private static final byte DOES_NOT_CONTAIN_TRANSLATABLE = 2;
   protected final List<Component> children;
   protected final Style style;
+  private int hashCode; // lazily computed, components are immutable
+  private byte containsTranslatable; // lazily computed, 0 when not yet known
 
   protected AbstractComponent(final @NotNull List<? extends ComponentLike> children, final @NotNull Style style) {
-    this.children = ComponentLike.asComponents(children, IS_NOT_EMPTY);
+    this.children = ChildrenVector.of(children, IS_NOT_EMPTY);
     this.style = style;
   }
 
@@ -67,12 +71,33 @@ public abstract class AbstractComponent implements Component {
     if (this == other) return true;
     if (!(other instanceof AbstractComponent)) return false;
     final AbstractComponent that = (AbstractComponent) other;
+    // cheap early exit when both hashes are already known
+    if (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode && this.getClass() == that.getClass()) return false;
     return Objects.equals(this.children, that.children)
       && Objects.equals(this.style, that.style);
   }
 
   @Override
   public int hashCode() {
+    int result = this.hashCode;
+    if (result == 0) {
+      result = this.computeHashCode();
+      this.hashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean containsTranslatable() {
+    byte result = this.containsTranslatable;
+    if (result == 0) {
+      result = Component.super.containsTranslatable() ? CONTAINS_TRANSLATABLE : DOES_NOT_CONTAIN_TRANSLATABLE;
+      this.containsTranslatable = result;
+    }
+    return result == CONTAINS_TRANSLATABLE;
+  }
+
+  int computeHashCode() {
     int result = this.children.hashCode();
     result = (31 * result) + this.style.hashCode();
     return result;
@@ -85,6 +85,11 @@ final class BlockNBTComponentImpl extends NBTComponentImpl<BlockNBTComponent, Bl
     return new BlockNBTComponentImpl(this.children, requireNonNull(style, "style"), this.nbtPath, this.interpret, this.separator, this.pos);
   }
 
+  @Override
+  public <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitBlockNbt(this, context);
+  }
+
   @Override
   public boolean equals(final @Nullable Object other) {
     if (this == other) return true;
@@ -95,8 +100,8 @@ final class BlockNBTComponentImpl extends NBTComponentImpl<BlockNBTComponent, Bl
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.pos.hashCode();
     return result;
   }
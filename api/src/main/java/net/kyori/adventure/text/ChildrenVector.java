@@ -0,0 +1,502 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable list of child components which shares structure between versions.
+ *
+ * <p>Large lists hold their elements in a trie of arrays with 32 slots per level, with the last, partially
+ * filled block kept apart as a tail. Appending copies the tail, or once the tail is full the path from
+ * the root down to where it is inserted, so deriving a component with one more child
+ * costs {@code O(log n)} instead of a copy of every existing child.</p>
+ *
+ * <p>Most components have no children or only a few, so those get smaller layouts: a shared empty list,
+ * a single reference, or one array with no trie bookkeeping. The list methods are implemented here rather
+ * than inherited from {@link java.util.AbstractList}, whose modification counter would add a field to every layout.</p>
+ */
+abstract class ChildrenVector implements List<Component>, RandomAccess {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+  static final ChildrenVector EMPTY = new Empty();
+
+  /**
+   * Gets a vector of the components in {@code likes}, reusing it if it is already a vector.
+   *
+   * @param likes the component-likes
+   * @param filter the component filter
+   * @return the vector
+   */
+  static @NotNull ChildrenVector of(final @NotNull List<? extends ComponentLike> likes, final @Nullable Predicate<? super Component> filter) {
+    // a vector has been filtered already when it was made
+    if (likes instanceof ChildrenVector) return (ChildrenVector) likes;
+    final int size = likes.size();
+    if (size == 0) return EMPTY;
+    final Object[] elements = new Object[size];
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      final @Nullable ComponentLike like = likes.get(i);
+      if (like == null) {
+        throw new NullPointerException("likes[" + i + "]");
+      }
+      final Component component = like.asComponent();
+      if (filter == null || filter.test(component)) {
+        elements[count++] = component;
+      }
+    }
+    return of(elements, count);
+  }
+
+  /**
+   * Gets a list of {@code list} with {@code component} appended.
+   *
+   * @param list the list
+   * @param component the component to append
+   * @return the new list
+   */
+  static @NotNull ChildrenVector plus(final @NotNull List<Component> list, final @NotNull Component component) {
+    if (list instanceof ChildrenVector) return ((ChildrenVector) list).plus(component);
+    final int size = list.size();
+    final Object[] elements = list.toArray(new Object[size + 1]);
+    elements[size] = component;
+    return of(elements, size + 1);
+  }
+
+  // bulk construction, filling every leaf before the tail
+  private static ChildrenVector of(final Object[] elements, final int count) {
+    if (count == 0) return EMPTY;
+    if (count == 1) return new Single((Component) elements[0]);
+    if (count <= WIDTH) return new Small(count == elements.length ? elements : Arrays.copyOf(elements, count));
+    final int tailOffset = tailOffset(count);
+    final Object[] tail = Arrays.copyOfRange(elements, tailOffset, count);
+    Object[] nodes = new Object[tailOffset >>> BITS];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+    }
+    int shift = BITS;
+    while (nodes.length > WIDTH) {
+      final Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = Arrays.copyOfRange(nodes, i << BITS, Math.min((i + 1) << BITS, nodes.length));
+      }
+      nodes = parents;
+      shift += BITS;
+    }
+    return new Trie(count, shift, nodes, tail);
+  }
+
+  private static int tailOffset(final int size) {
+    return size <= WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+  }
+
+  static IndexOutOfBoundsException outOfBounds(final int index, final int size) {
+    return new IndexOutOfBoundsException("index " + index + ", size " + size);
+  }
+
+  /**
+   * Gets a vector with {@code component} appended to this one.
+   *
+   * @param component the component
+   * @return the new vector
+   */
+  abstract @NotNull ChildrenVector plus(final @NotNull Component component);
+
+  @Override
+  public boolean isEmpty() {
+    return this.size() == 0;
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return this.indexOf(o) >= 0;
+  }
+
+  @Override
+  public boolean containsAll(final @NotNull Collection<?> c) {
+    for (final Object o : c) {
+      if (!this.contains(o)) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public int indexOf(final Object o) {
+    for (int i = 0, size = this.size(); i < size; i++) {
+      if (Objects.equals(o, this.get(i))) return i;
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final Object o) {
+    for (int i = this.size() - 1; i >= 0; i--) {
+      if (Objects.equals(o, this.get(i))) return i;
+    }
+    return -1;
+  }
+
+  @Override
+  public @NotNull Object[] toArray() {
+    final Object[] array = new Object[this.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = this.get(i);
+    }
+    return array;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> @NotNull T[] toArray(final @NotNull T[] a) {
+    final int size = this.size();
+    final T[] array = a.length >= size ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+    for (int i = 0; i < size; i++) {
+      array[i] = (T) this.get(i);
+    }
+    if (array.length > size) array[size] = null;
+    return array;
+  }
+
+  @Override
+  public @NotNull Iterator<Component> iterator() {
+    return new Itr(0);
+  }
+
+  @Override
+  public @NotNull ListIterator<Component> listIterator() {
+    return new Itr(0);
+  }
+
+  @Override
+  public @NotNull ListIterator<Component> listIterator(final int index) {
+    if (index < 0 || index > this.size()) throw outOfBounds(index, this.size());
+    return new Itr(index);
+  }
+
+  @Override
+  public @NotNull List<Component> subList(final int fromIndex, final int toIndex) {
+    final int size = this.size();
+    if (fromIndex < 0) throw outOfBounds(fromIndex, size);
+    if (toIndex > size) throw outOfBounds(toIndex, size);
+    if (fromIndex > toIndex) throw new IllegalArgumentException("fromIndex " + fromIndex + " > toIndex " + toIndex);
+    if (fromIndex == 0 && toIndex == size) return this;
+    // immutable, so a copy can't be told apart from a view
+    final Object[] elements = new Object[toIndex - fromIndex];
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = this.get(fromIndex + i);
+    }
+    return of(elements, elements.length);
+  }
+
+  @Override
+  public boolean add(final Component component) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void add(final int index, final Component element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(final @NotNull Collection<? extends Component> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(final int index, final @NotNull Collection<? extends Component> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Component set(final int index, final Component element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(final Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Component remove(final int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(final @NotNull Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(final @NotNull Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) return true;
+    if (!(other instanceof List)) return false;
+    final List<?> that = (List<?>) other;
+    final int size = this.size();
+    if (that.size() != size) return false;
+    final Iterator<?> it = that.iterator();
+    for (int i = 0; i < size; i++) {
+      if (!it.hasNext() || !Objects.equals(this.get(i), it.next())) return false;
+    }
+    return !it.hasNext();
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (int i = 0, size = this.size(); i < size; i++) {
+      result = 31 * result + this.get(i).hashCode();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("[");
+    for (int i = 0, size = this.size(); i < size; i++) {
+      if (i > 0) sb.append(", ");
+      sb.append(this.get(i));
+    }
+    return sb.append(']').toString();
+  }
+
+  final class Itr implements ListIterator<Component> {
+    private int cursor;
+
+    Itr(final int cursor) {
+      this.cursor = cursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.cursor < ChildrenVector.this.size();
+    }
+
+    @Override
+    public Component next() {
+      if (!this.hasNext()) throw new NoSuchElementException();
+      return ChildrenVector.this.get(this.cursor++);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return this.cursor > 0;
+    }
+
+    @Override
+    public Component previous() {
+      if (!this.hasPrevious()) throw new NoSuchElementException();
+      return ChildrenVector.this.get(--this.cursor);
+    }
+
+    @Override
+    public int nextIndex() {
+      return this.cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+      return this.cursor - 1;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(final Component component) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(final Component component) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  static final class Empty extends ChildrenVector {
+    @Override
+    @NotNull ChildrenVector plus(final @NotNull Component component) {
+      return new Single(component);
+    }
+
+    @Override
+    public Component get(final int index) {
+      throw outOfBounds(index, 0);
+    }
+
+    @Override
+    public int size() {
+      return 0;
+    }
+  }
+
+  static final class Single extends ChildrenVector {
+    private final Component element;
+
+    Single(final Component element) {
+      this.element = element;
+    }
+
+    @Override
+    @NotNull ChildrenVector plus(final @NotNull Component component) {
+      return new Small(new Object[]{this.element, component});
+    }
+
+    @Override
+    public Component get(final int index) {
+      if (index != 0) throw outOfBounds(index, 1);
+      return this.element;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+
+  // up to one full block, which becomes the first leaf of a trie once it overflows
+  static final class Small extends ChildrenVector {
+    private final Object[] elements;
+
+    Small(final Object[] elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    @NotNull ChildrenVector plus(final @NotNull Component component) {
+      if (this.elements.length == WIDTH) {
+        return new Trie(WIDTH + 1, BITS, new Object[]{this.elements}, new Object[]{component});
+      }
+      final Object[] elements = Arrays.copyOf(this.elements, this.elements.length + 1);
+      elements[this.elements.length] = component;
+      return new Small(elements);
+    }
+
+    @Override
+    public Component get(final int index) {
+      if (index < 0 || index >= this.elements.length) throw outOfBounds(index, this.elements.length);
+      return (Component) this.elements[index];
+    }
+
+    @Override
+    public int size() {
+      return this.elements.length;
+    }
+  }
+
+  static final class Trie extends ChildrenVector {
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    Trie(final int size, final int shift, final Object[] root, final Object[] tail) {
+      this.size = size;
+      this.shift = shift;
+      this.root = root;
+      this.tail = tail;
+    }
+
+    @Override
+    @NotNull ChildrenVector plus(final @NotNull Component component) {
+      if (this.tail.length < WIDTH) {
+        final Object[] tail = Arrays.copyOf(this.tail, this.tail.length + 1);
+        tail[this.tail.length] = component;
+        return new Trie(this.size + 1, this.shift, this.root, tail);
+      }
+      // the tail is full, move it into the trie
+      final Object[] root;
+      int shift = this.shift;
+      if ((this.size >>> BITS) > (1 << this.shift)) {
+        root = new Object[]{this.root, newPath(this.shift, this.tail)};
+        shift += BITS;
+      } else {
+        root = this.pushTail(this.shift, this.root);
+      }
+      return new Trie(this.size + 1, shift, root, new Object[]{component});
+    }
+
+    private Object[] pushTail(final int level, final Object[] parent) {
+      final int index = ((this.size - 1) >>> level) & MASK;
+      final Object[] node = Arrays.copyOf(parent, Math.max(parent.length, index + 1));
+      if (level == BITS) {
+        node[index] = this.tail;
+      } else {
+        node[index] = index < parent.length
+          ? this.pushTail(level - BITS, (Object[]) parent[index])
+          : newPath(level - BITS, this.tail);
+      }
+      return node;
+    }
+
+    private static Object[] newPath(final int level, final Object[] node) {
+      return level == 0 ? node : new Object[]{newPath(level - BITS, node)};
+    }
+
+    @Override
+    public Component get(final int index) {
+      if (index < 0 || index >= this.size) throw outOfBounds(index, this.size);
+      return (Component) this.leafFor(index)[index & MASK];
+    }
+
+    private Object[] leafFor(final int index) {
+      if (index >= tailOffset(this.size)) return this.tail;
+      Object[] node = this.root;
+      for (int level = this.shift; level > 0; level -= BITS) {
+        node = (Object[]) node[(index >>> level) & MASK];
+      }
+      return node;
+    }
+
+    @Override
+    public int size() {
+      return this.size;
+    }
+  }
+}
@@ -25,6 +25,7 @@ package net.kyori.adventure.text;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -1675,6 +1676,32 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
     return false;
   }
 
+  /**
+   * Checks if this component, any of its children, or any component held by their hover events is a {@link TranslatableComponent}.
+   *
+   * <p>Renderers may use this to skip subtrees which have nothing to translate.</p>
+   *
+   * @return {@code true} if this component contains a translatable component, {@code false} otherwise
+   * @since 4.10.0
+   */
+  default boolean containsTranslatable() {
+    if (this instanceof TranslatableComponent) return true;
+    for (final Component child : this.children()) {
+      if (child.containsTranslatable()) return true;
+    }
+    final @Nullable HoverEvent<?> hoverEvent = this.hoverEvent();
+    if (hoverEvent != null) {
+      final Object value = hoverEvent.value();
+      if (value instanceof Component) {
+        return ((Component) value).containsTranslatable();
+      } else if (value instanceof HoverEvent.ShowEntity) {
+        final @Nullable Component name = ((HoverEvent.ShowEntity) value).name();
+        return name != null && name.containsTranslatable();
+      }
+    }
+    return false;
+  }
+
   /**
    * Prevents a cycle between this component and the provided component.
    *
@@ -1715,7 +1742,7 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
     requireNonNull(component, "component");
     if (component == Component.empty()) return this;
     final List<Component> oldChildren = this.children();
-    return this.children(MonkeyBars.addOne(oldChildren, component));
+    return this.children(ChildrenVector.plus(oldChildren, component));
   }
 
   /**
@@ -2065,6 +2092,37 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
     return !this.style().isEmpty();
   }
 
+  /**
+   * Calls the method of {@code visitor} matching the type of this component.
+   *
+   * @param visitor the visitor
+   * @param context the context to pass to the visitor
+   * @param <R> the result type
+   * @param <C> the context type
+   * @return the result of the visitor
+   * @since 4.10.0
+   */
+  default <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    if (this instanceof TextComponent) {
+      return visitor.visitText((TextComponent) this, context);
+    } else if (this instanceof TranslatableComponent) {
+      return visitor.visitTranslatable((TranslatableComponent) this, context);
+    } else if (this instanceof KeybindComponent) {
+      return visitor.visitKeybind((KeybindComponent) this, context);
+    } else if (this instanceof ScoreComponent) {
+      return visitor.visitScore((ScoreComponent) this, context);
+    } else if (this instanceof SelectorComponent) {
+      return visitor.visitSelector((SelectorComponent) this, context);
+    } else if (this instanceof BlockNBTComponent) {
+      return visitor.visitBlockNbt((BlockNBTComponent) this, context);
+    } else if (this instanceof EntityNBTComponent) {
+      return visitor.visitEntityNbt((EntityNBTComponent) this, context);
+    } else if (this instanceof StorageNBTComponent) {
+      return visitor.visitStorageNbt((StorageNBTComponent) this, context);
+    }
+    return visitor.visitUnknown(this, context);
+  }
+
   /**
    * Finds and replaces any text with this or child {@link Component}s using the configured options.
    *
@@ -2177,13 +2235,46 @@ public interface Component extends ComponentBuilderApplicable, ComponentLike, Ex
    *
    * <p>The resulting spliterator has the {@link Spliterator#IMMUTABLE}, {@link Spliterator#NONNULL} and {@link Spliterator#ORDERED} characteristics.</p>
    *
+   * <p>A {@link ComponentIteratorType#DEPTH_FIRST depth-first} spliterator splits between
+   * the subtrees of sibling components, so that parallel streams over large trees divide
+   * their work without first copying the components into a buffer.</p>
+   *
    * @param type the type
    * @param flags the flags
    * @return the spliterator
    * @since 4.9.0
    */
   default @NotNull Spliterator<Component> spliterator(final @NotNull ComponentIteratorType type, final @NotNull Set<ComponentIteratorFlag> flags) {
-    return Spliterators.spliteratorUnknownSize(this.iterator(type, flags), Spliterator.IMMUTABLE & Spliterator.NONNULL & Spliterator.ORDERED);
+    if (requireNonNull(type, "type") == ComponentIteratorType.DEPTH_FIRST) {
+      return new ComponentSpliterator(this, requireNonNull(flags, "flags"));
+    }
+    return Spliterators.spliteratorUnknownSize(this.iterator(type, flags), ComponentSpliterator.CHARACTERISTICS);
+  }
+
+  /**
+   * Performs an action for this component and every component reached from it.
+   *
+   * <p>Components are visited in the same order as {@link #iterator(ComponentIteratorType, Set)},
+   * but the pending components are kept in the provided deque instead of one allocated per traversal.
+   * The deque is cleared before the traversal starts, and is empty once it completes normally, so a single
+   * deque may be reused for any number of traversals on the same thread.</p>
+   *
+   * @param type the type
+   * @param flags the flags
+   * @param deque the deque to hold pending components in
+   * @param action the action
+   * @since 4.10.0
+   */
+  default void forEach(final @NotNull ComponentIteratorType type, final @NotNull Set<ComponentIteratorFlag> flags, final @NotNull Deque<Component> deque, final @NotNull Consumer<? super Component> action) {
+    requireNonNull(type, "type");
+    requireNonNull(flags, "flags");
+    requireNonNull(action, "action");
+    deque.clear();
+    Component next = this;
+    do {
+      type.populate(next, deque, flags);
+      action.accept(next);
+    } while ((next = deque.poll()) != null);
   }
 
   /**
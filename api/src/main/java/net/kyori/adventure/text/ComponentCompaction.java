@@ -23,8 +23,10 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import net.kyori.adventure.text.format.Style;
@@ -72,55 +74,78 @@ final class ComponentCompaction {
     }
 
     // optimize all children
-    final List<Component> childrenToAppend = new ArrayList<>(children.size());
-    for (int i = 0; i < children.size(); ++i) {
+    final Deque<Component> childrenToAppend = new ArrayDeque<>(childrenSize);
+    for (int i = 0; i < childrenSize; ++i) {
       childrenToAppend.add(compact(children.get(i), childParentStyle));
     }
 
     // try to merge children into this parent component
-    while (!childrenToAppend.isEmpty()) {
-      final Component child = childrenToAppend.get(0);
-      final Style childStyle = child.style().merge(childParentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
-
-      if (optimized instanceof TextComponent && child instanceof TextComponent && Objects.equals(childStyle, childParentStyle)) {
+    if (optimized instanceof TextComponent) {
+      StringBuilder content = null;
+      while (!childrenToAppend.isEmpty()) {
+        final Component child = childrenToAppend.peekFirst();
         // merge child components into the parent if they are a text component with the same effective style
         // in context of their parent style
-        optimized = joinText((TextComponent) optimized, (TextComponent) child);
-        childrenToAppend.remove(0);
+        if (!(child instanceof TextComponent) || !Objects.equals(effectiveStyle(child, childParentStyle), childParentStyle)) {
+          // this child can't be merged into the parent, so all children from now on must remain children
+          break;
+        }
+        childrenToAppend.pollFirst();
+        if (content == null) content = new StringBuilder(((TextComponent) optimized).content());
+        content.append(((TextComponent) child).content());
 
         // if the merged child had any children, retain them
-        childrenToAppend.addAll(0, child.children());
-      } else {
-        // this child can't be merged into the parent, so all children from now on must remain children
-        break;
+        final List<Component> grandchildren = child.children();
+        for (int i = grandchildren.size() - 1; i >= 0; i--) {
+          childrenToAppend.addFirst(grandchildren.get(i));
+        }
+      }
+      if (content != null) {
+        optimized = ((TextComponent) optimized).content(content.toString());
       }
     }
 
-    // try to concatenate any further children with their neighbor
-    // until no further joining is possible
-    for (int i = 0; i + 1 < childrenToAppend.size();) {
-      final Component child = childrenToAppend.get(i);
-      final Component neighbor = childrenToAppend.get(i + 1);
-
-      // calculate the children's styles in context of their parent style
-      final Style childStyle = child.style().merge(childParentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
-      final Style neighborStyle = neighbor.style().merge(childParentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
-
-      if (child.children().isEmpty() && child instanceof TextComponent && neighbor instanceof TextComponent && childStyle.equals(neighborStyle)) {
-        final Component combined = joinText((TextComponent) child, (TextComponent) neighbor);
-
-        // replace the child and its neighbor with the single, combined component
-        childrenToAppend.set(i, combined);
-        childrenToAppend.remove(i + 1);
+    // concatenate runs of neighboring text children with the same effective style in a single pass
+    final List<Component> result = new ArrayList<>(childrenToAppend.size());
+    TextComponent run = null;
+    Style runStyle = null;
+    StringBuilder runContent = null;
+    for (final Component child : childrenToAppend) {
+      // calculate the child's style in context of their parent style
+      final Style childStyle = effectiveStyle(child, childParentStyle);
+      if (run != null && child instanceof TextComponent && childStyle.equals(runStyle)) {
+        if (runContent == null) runContent = new StringBuilder(run.content());
+        runContent.append(((TextComponent) child).content());
+        if (!child.children().isEmpty()) {
+          // the combined component takes the children of its last part, and can't be joined any further
+          result.add(new TextComponentImpl(child.children(), run.style(), runContent.toString()));
+          run = null;
+        }
+        continue;
+      }
 
-        // don't increment the index -
-        // we want to try and optimize this combined component even further
+      flushRun(result, run, runContent);
+      run = null;
+      runContent = null;
+      if (child instanceof TextComponent && child.children().isEmpty()) {
+        run = (TextComponent) child;
+        runStyle = childStyle;
       } else {
-        i++;
+        result.add(child);
       }
     }
+    flushRun(result, run, runContent);
 
-    return optimized.children(childrenToAppend);
+    return optimized.children(result);
+  }
+
+  private static Style effectiveStyle(final @NotNull Component child, final @NotNull Style parentStyle) {
+    return child.style().merge(parentStyle, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+  }
+
+  private static void flushRun(final List<Component> result, final @Nullable TextComponent run, final @Nullable StringBuilder content) {
+    if (run == null) return;
+    result.add(content == null ? run : new TextComponentImpl(Collections.emptyList(), run.style(), content.toString()));
   }
 
   /**
@@ -165,8 +190,4 @@ final class ComponentCompaction {
 
     return builder.build();
   }
-
-  private static TextComponent joinText(final TextComponent one, final TextComponent two) {
-    return new TextComponentImpl(two.children(), one.style(), one.content() + two.content());
-  }
 }
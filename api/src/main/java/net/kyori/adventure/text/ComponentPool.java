@@ -0,0 +1,110 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import net.kyori.adventure.text.serializer.ComponentSerializer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A pool that canonicalizes structurally equal components and styles.
+ *
+ * <p>Interning a component interns its children, arguments and style first, so equal subtrees
+ * of different components end up sharing the same instances. Interned components can then be
+ * compared by identity, and duplicate copies can be garbage collected.</p>
+ *
+ * <p>Pools only hold weak references to the instances they contain, and are safe to use from
+ * multiple threads.</p>
+ *
+ * @since 4.10.0
+ */
+@ApiStatus.NonExtendable
+public interface ComponentPool {
+  /**
+   * Creates a new, empty pool.
+   *
+   * @return a new pool
+   * @since 4.10.0
+   */
+  static @NotNull ComponentPool create() {
+    return new ComponentPoolImpl();
+  }
+
+  /**
+   * Gets the canonical instance of a component, adding it to this pool if there is none yet.
+   *
+   * @param component the component
+   * @param <C> the component type
+   * @return the canonical instance, equal to {@code component}
+   * @since 4.10.0
+   */
+  <C extends Component> @NotNull C intern(final @NotNull C component);
+
+  /**
+   * Gets the canonical instance of a style, adding it to this pool if there is none yet.
+   *
+   * @param style the style
+   * @return the canonical instance, equal to {@code style}
+   * @since 4.10.0
+   */
+  @NotNull Style intern(final @NotNull Style style);
+
+  /**
+   * Creates a renderer that interns the components rendered by {@code renderer} in this pool.
+   *
+   * @param renderer the renderer
+   * @param <C> the context type
+   * @return an interning renderer
+   * @since 4.10.0
+   */
+  default <C> @NotNull ComponentRenderer<C> interning(final @NotNull ComponentRenderer<C> renderer) {
+    return (component, context) -> this.intern(renderer.render(component, context));
+  }
+
+  /**
+   * Creates a serializer that interns the components deserialized by {@code serializer} in this pool.
+   *
+   * @param serializer the serializer
+   * @param <I> the input component type
+   * @param <O> the output component type
+   * @param <R> the serialized type
+   * @return an interning serializer
+   * @since 4.10.0
+   */
+  default <I extends Component, O extends Component, R> @NotNull ComponentSerializer<I, O, R> interning(final @NotNull ComponentSerializer<I, O, R> serializer) {
+    return new ComponentSerializer<I, O, R>() {
+      @Override
+      public @NotNull O deserialize(final @NotNull R input) {
+        return ComponentPool.this.intern(serializer.deserialize(input));
+      }
+
+      @Override
+      public @NotNull R serialize(final @NotNull I component) {
+        return serializer.serialize(component);
+      }
+    };
+  }
+}
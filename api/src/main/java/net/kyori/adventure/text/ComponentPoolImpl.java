@@ -0,0 +1,162 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class ComponentPoolImpl implements ComponentPool {
+  private final Interner<Component> components = new Interner<>();
+  private final Interner<Style> styles = new Interner<>();
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <C extends Component> @NotNull C intern(final @NotNull C component) {
+    requireNonNull(component, "component");
+    // a pooled component was interned along with everything it holds
+    final @Nullable Component pooled = this.components.get(component);
+    if (pooled != null) return (C) pooled;
+
+    Component result = component;
+    final @Nullable List<Component> children = this.internAll(result.children());
+    if (children != null) {
+      result = result.children(children);
+    }
+    if (result instanceof TranslatableComponent) {
+      final @Nullable List<Component> args = this.internAll(((TranslatableComponent) result).args());
+      if (args != null) {
+        result = ((TranslatableComponent) result).args(args);
+      }
+    }
+    final Style style = this.intern(result.style());
+    if (style != result.style()) {
+      result = result.style(style);
+    }
+
+    return (C) this.components.intern(result);
+  }
+
+  // returns null if every component was already canonical
+  private @Nullable List<Component> internAll(final List<Component> components) {
+    @Nullable List<Component> interned = null;
+    for (int i = 0, size = components.size(); i < size; i++) {
+      final Component component = components.get(i);
+      final Component canonical = this.intern(component);
+      if (canonical != component) {
+        if (interned == null) {
+          interned = new ArrayList<>(components);
+        }
+        interned.set(i, canonical);
+      }
+    }
+    return interned;
+  }
+
+  @Override
+  public @NotNull Style intern(final @NotNull Style style) {
+    requireNonNull(style, "style");
+    final @Nullable Style pooled = this.styles.get(style);
+    if (pooled != null) return pooled;
+    final @Nullable HoverEvent<?> hoverEvent = style.hoverEvent();
+    if (hoverEvent != null) {
+      final HoverEvent<?> interned = this.intern(hoverEvent);
+      if (interned != hoverEvent) {
+        return this.styles.intern(style.hoverEvent(interned));
+      }
+    }
+    return this.styles.intern(style);
+  }
+
+  @SuppressWarnings("unchecked")
+  private HoverEvent<?> intern(final HoverEvent<?> hoverEvent) {
+    final Object value = hoverEvent.value();
+    if (value instanceof Component) {
+      final Component interned = this.intern((Component) value);
+      return interned == value ? hoverEvent : ((HoverEvent<Component>) hoverEvent).value(interned);
+    } else if (value instanceof HoverEvent.ShowEntity) {
+      final HoverEvent.ShowEntity entity = (HoverEvent.ShowEntity) value;
+      final @Nullable Component name = entity.name();
+      if (name != null) {
+        final Component interned = this.intern(name);
+        if (interned != name) {
+          return ((HoverEvent<HoverEvent.ShowEntity>) hoverEvent).value(HoverEvent.ShowEntity.of(entity.type(), entity.id(), interned));
+        }
+      }
+    }
+    return hoverEvent;
+  }
+
+  /*
+   * A weak interning table. Lookups are spread over several independently locked maps to reduce contention.
+   */
+  static final class Interner<T> {
+    private static final int STRIPES = 16;
+    private final Map<T, WeakReference<T>>[] tables;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Interner() {
+      this.tables = new Map[STRIPES];
+      for (int i = 0; i < STRIPES; i++) {
+        this.tables[i] = new WeakHashMap<>();
+      }
+    }
+
+    private Map<T, WeakReference<T>> table(final T value) {
+      final int hash = value.hashCode();
+      return this.tables[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    @Nullable T get(final T value) {
+      final Map<T, WeakReference<T>> table = this.table(value);
+      synchronized (table) {
+        final @Nullable WeakReference<T> existing = table.get(value);
+        return existing == null ? null : existing.get();
+      }
+    }
+
+    T intern(final T value) {
+      final Map<T, WeakReference<T>> table = this.table(value);
+      synchronized (table) {
+        final @Nullable WeakReference<T> existing = table.get(value);
+        if (existing != null) {
+          final @Nullable T canonical = existing.get();
+          if (canonical != null) {
+            return canonical;
+          }
+        }
+        table.put(value, new WeakReference<>(value));
+        return value;
+      }
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A depth-first spliterator which splits at child-list boundaries.
+ *
+ * <p>The remaining traversal is a run of already expanded components, which are emitted as they are,
+ * followed by a run of pending subtrees. Splitting hands a prefix of that sequence to the new spliterator,
+ * expanding the first pending subtree as long as there are not enough of them to share.</p>
+ */
+final class ComponentSpliterator implements Spliterator<Component> {
+  static final int CHARACTERISTICS = Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED;
+
+  private final Set<ComponentIteratorFlag> flags;
+  private List<Component> expanded;
+  private int expandedIndex;
+  private final Deque<Component> pending;
+
+  ComponentSpliterator(final @NotNull Component component, final @NotNull Set<ComponentIteratorFlag> flags) {
+    this(flags, Collections.emptyList(), new ArrayDeque<>());
+    this.pending.add(component);
+  }
+
+  private ComponentSpliterator(final @NotNull Set<ComponentIteratorFlag> flags, final @NotNull List<Component> expanded, final @NotNull Deque<Component> pending) {
+    this.flags = flags;
+    this.expanded = expanded;
+    this.pending = pending;
+  }
+
+  @Override
+  public boolean tryAdvance(final @NotNull Consumer<? super Component> action) {
+    if (this.expandedIndex < this.expanded.size()) {
+      action.accept(this.expanded.get(this.expandedIndex++));
+      return true;
+    }
+    final Component next = this.pending.poll();
+    if (next == null) return false;
+    ComponentIteratorType.DEPTH_FIRST.populate(next, this.pending, this.flags);
+    action.accept(next);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(final @NotNull Consumer<? super Component> action) {
+    final int size = this.expanded.size();
+    while (this.expandedIndex < size) {
+      action.accept(this.expanded.get(this.expandedIndex++));
+    }
+    Component next;
+    while ((next = this.pending.poll()) != null) {
+      ComponentIteratorType.DEPTH_FIRST.populate(next, this.pending, this.flags);
+      action.accept(next);
+    }
+  }
+
+  @Override
+  public @Nullable Spliterator<Component> trySplit() {
+    List<Component> prefix = null;
+    if (this.expandedIndex < this.expanded.size()) {
+      prefix = new ArrayList<>(this.expanded.subList(this.expandedIndex, this.expanded.size()));
+    }
+    // descend until there are at least two sibling subtrees to share
+    while (this.pending.size() == 1) {
+      final Component next = this.pending.poll();
+      ComponentIteratorType.DEPTH_FIRST.populate(next, this.pending, this.flags);
+      if (prefix == null) prefix = new ArrayList<>();
+      prefix.add(next);
+    }
+    this.expanded = Collections.emptyList();
+    this.expandedIndex = 0;
+    if (this.pending.isEmpty()) {
+      // only leaves are left, keep them rather than splitting off a trivial amount of work
+      if (prefix != null) this.expanded = prefix;
+      return null;
+    }
+    final Deque<Component> split = new ArrayDeque<>();
+    for (int i = 0, half = this.pending.size() / 2; i < half; i++) {
+      split.add(this.pending.poll());
+    }
+    return new ComponentSpliterator(this.flags, prefix == null ? Collections.emptyList() : prefix, split);
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.expandedIndex < this.expanded.size() || !this.pending.isEmpty() ? Long.MAX_VALUE : 0;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A visitor of components, dispatched to by the type of each component.
+ *
+ * <p>A visitor is invoked with {@link Component#accept(ComponentVisitor, Object)}, which calls
+ * the single method matching the component's type.</p>
+ *
+ * @param <R> the result type
+ * @param <C> the context type
+ * @since 4.10.0
+ */
+public interface ComponentVisitor<R, C> {
+  /**
+   * Visits a text component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitText(final @NotNull TextComponent component, final C context);
+
+  /**
+   * Visits a translatable component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitTranslatable(final @NotNull TranslatableComponent component, final C context);
+
+  /**
+   * Visits a keybind component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitKeybind(final @NotNull KeybindComponent component, final C context);
+
+  /**
+   * Visits a score component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitScore(final @NotNull ScoreComponent component, final C context);
+
+  /**
+   * Visits a selector component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitSelector(final @NotNull SelectorComponent component, final C context);
+
+  /**
+   * Visits a block NBT component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitBlockNbt(final @NotNull BlockNBTComponent component, final C context);
+
+  /**
+   * Visits an entity NBT component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitEntityNbt(final @NotNull EntityNBTComponent component, final C context);
+
+  /**
+   * Visits a storage NBT component.
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @since 4.10.0
+   */
+  R visitStorageNbt(final @NotNull StorageNBTComponent component, final C context);
+
+  /**
+   * Visits a component of a type not known to this visitor.
+   *
+   * <p>By default, this throws an exception.</p>
+   *
+   * @param component the component
+   * @param context the context
+   * @return the result
+   * @throws IllegalArgumentException if the component type is not supported
+   * @since 4.10.0
+   */
+  default R visitUnknown(final @NotNull Component component, final C context) {
+    throw new IllegalArgumentException("Don't know how to visit " + component);
+  }
+}
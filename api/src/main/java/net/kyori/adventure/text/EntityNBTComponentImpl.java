@@ -84,6 +84,11 @@ final class EntityNBTComponentImpl extends NBTComponentImpl<EntityNBTComponent,
     return new EntityNBTComponentImpl(this.children, requireNonNull(style, "style"), this.nbtPath, this.interpret, this.separator, this.selector);
   }
 
+  @Override
+  public <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitEntityNbt(this, context);
+  }
+
   @Override
   public boolean equals(final @Nullable Object other) {
     if (this == other) return true;
@@ -94,8 +99,8 @@ final class EntityNBTComponentImpl extends NBTComponentImpl<EntityNBTComponent,
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.selector.hashCode();
     return result;
   }
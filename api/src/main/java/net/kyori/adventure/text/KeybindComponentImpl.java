@@ -62,6 +62,11 @@ final class KeybindComponentImpl extends AbstractComponent implements KeybindCom
     return new KeybindComponentImpl(this.children, requireNonNull(style, "style"), this.keybind);
   }
 
+  @Override
+  public <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitKeybind(this, context);
+  }
+
   @Override
   public boolean equals(final @Nullable Object other) {
     if (this == other) return true;
@@ -72,8 +77,8 @@ final class KeybindComponentImpl extends AbstractComponent implements KeybindCom
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.keybind.hashCode();
     return result;
   }
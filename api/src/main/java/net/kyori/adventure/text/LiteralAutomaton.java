@@ -0,0 +1,180 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An Aho-Corasick automaton locating any of a set of literal strings in a single scan.
+ *
+ * <p>Matches are reported leftmost-longest: the match beginning earliest wins, and of the
+ * literals beginning at that index the longest is chosen.</p>
+ */
+final class LiteralAutomaton {
+  static final long NO_MATCH = -1L;
+  private static final int ROOT = 0;
+
+  private final char[][] keys;
+  private final int[][] targets;
+  private final int[] failure;
+  private final int[] depth;
+  private final int[] longest;
+
+  private LiteralAutomaton(final char[][] keys, final int[][] targets, final int[] failure, final int[] depth, final int[] longest) {
+    this.keys = keys;
+    this.targets = targets;
+    this.failure = failure;
+    this.depth = depth;
+    this.longest = longest;
+  }
+
+  static @NotNull LiteralAutomaton compile(final @NotNull Collection<String> literals) {
+    final List<Map<Character, Integer>> trie = new ArrayList<>();
+    final List<Integer> depths = new ArrayList<>();
+    final List<Boolean> terminal = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    depths.add(0);
+    terminal.add(false);
+    for (final String literal : literals) {
+      if (literal.isEmpty()) throw new IllegalArgumentException("Literals to match must not be empty");
+      int node = ROOT;
+      for (int i = 0, length = literal.length(); i < length; i++) {
+        final Integer next = trie.get(node).get(literal.charAt(i));
+        if (next != null) {
+          node = next;
+        } else {
+          final int created = trie.size();
+          trie.add(new TreeMap<>());
+          depths.add(i + 1);
+          terminal.add(false);
+          trie.get(node).put(literal.charAt(i), created);
+          node = created;
+        }
+      }
+      terminal.set(node, true);
+    }
+
+    final int size = trie.size();
+    final char[][] keys = new char[size][];
+    final int[][] targets = new int[size][];
+    final int[] depth = new int[size];
+    for (int node = 0; node < size; node++) {
+      final Map<Character, Integer> edges = trie.get(node);
+      final char[] nodeKeys = new char[edges.size()];
+      final int[] nodeTargets = new int[edges.size()];
+      int i = 0;
+      for (final Map.Entry<Character, Integer> edge : edges.entrySet()) { // sorted, for binary search
+        nodeKeys[i] = edge.getKey();
+        nodeTargets[i] = edge.getValue();
+        i++;
+      }
+      keys[node] = nodeKeys;
+      targets[node] = nodeTargets;
+      depth[node] = depths.get(node);
+    }
+
+    final int[] failure = new int[size];
+    final int[] longest = new int[size];
+    final LiteralAutomaton automaton = new LiteralAutomaton(keys, targets, failure, depth, longest);
+    // breadth-first, so every failure link points at an already-completed node
+    final int[] queue = new int[size];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = ROOT;
+    while (head < tail) {
+      final int node = queue[head++];
+      final char[] nodeKeys = keys[node];
+      for (int i = 0; i < nodeKeys.length; i++) {
+        final int child = targets[node][i];
+        if (node != ROOT) {
+          int fallback = failure[node];
+          int next;
+          while ((next = automaton.transition(fallback, nodeKeys[i])) == -1 && fallback != ROOT) {
+            fallback = failure[fallback];
+          }
+          failure[child] = next == -1 ? ROOT : next;
+        }
+        longest[child] = terminal.get(child) ? depth[child] : longest[failure[child]];
+        queue[tail++] = child;
+      }
+    }
+    return automaton;
+  }
+
+  /**
+   * Find the leftmost-longest literal in {@code text} starting at or after {@code from}.
+   *
+   * @param text the text to search
+   * @param from the index to start searching at
+   * @return the match packed as {@code start << 32 | end}, or {@link #NO_MATCH}
+   */
+  long find(final @NotNull CharSequence text, final int from) {
+    int state = ROOT;
+    int bestStart = -1;
+    int bestEnd = -1;
+    for (int i = from, length = text.length(); i < length; i++) {
+      state = this.step(state, text.charAt(i));
+      final int end = i + 1;
+      final int matched = this.longest[state];
+      if (matched != 0) {
+        final int start = end - matched;
+        if (bestStart == -1 || start <= bestStart) {
+          bestStart = start;
+          bestEnd = end;
+        }
+      }
+      // no partial match in progress can begin at or before the best match, so it is final
+      if (bestStart != -1 && end - this.depth[state] > bestStart) break;
+    }
+    return bestStart == -1 ? NO_MATCH : ((long) bestStart << 32) | bestEnd;
+  }
+
+  static int start(final long match) {
+    return (int) (match >>> 32);
+  }
+
+  static int end(final long match) {
+    return (int) match;
+  }
+
+  private int step(int state, final char c) {
+    while (true) {
+      final int next = this.transition(state, c);
+      if (next != -1) return next;
+      if (state == ROOT) return ROOT;
+      state = this.failure[state];
+    }
+  }
+
+  private int transition(final int state, final char c) {
+    final int index = Arrays.binarySearch(this.keys[state], c);
+    return index < 0 ? -1 : this.targets[state][index];
+  }
+}
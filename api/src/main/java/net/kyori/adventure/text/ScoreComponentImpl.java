@@ -91,6 +91,11 @@ final class ScoreComponentImpl extends AbstractComponent implements ScoreCompone
     return new ScoreComponentImpl(this.children, requireNonNull(style, "style"), this.name, this.objective, this.value);
   }
 
+  @Override
+  public <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitScore(this, context);
+  }
+
   @Override
   @SuppressWarnings("deprecation")
   public boolean equals(final @Nullable Object other) {
@@ -104,8 +109,8 @@ final class ScoreComponentImpl extends AbstractComponent implements ScoreCompone
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.name.hashCode();
     result = (31 * result) + this.objective.hashCode();
     result = (31 * result) + Objects.hashCode(this.value);
@@ -74,6 +74,11 @@ final class SelectorComponentImpl extends AbstractComponent implements SelectorC
     return new SelectorComponentImpl(this.children, requireNonNull(style, "style"), this.pattern, this.separator);
   }
 
+  @Override
+  public <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitSelector(this, context);
+  }
+
   @Override
   public boolean equals(final @Nullable Object other) {
     if (this == other) return true;
@@ -84,8 +89,8 @@ final class SelectorComponentImpl extends AbstractComponent implements SelectorC
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.pattern.hashCode();
     result = (31 * result) + Objects.hashCode(this.separator);
     return result;
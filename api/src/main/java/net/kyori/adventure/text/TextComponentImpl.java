@@ -92,6 +92,11 @@ final class TextComponentImpl extends AbstractComponent implements TextComponent
     return new TextComponentImpl(this.children, requireNonNull(style, "style"), this.content);
   }
 
+  @Override
+  public <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitText(this, context);
+  }
+
   @Override
   public boolean equals(final @Nullable Object other) {
     if (this == other) return true;
@@ -102,8 +107,8 @@ final class TextComponentImpl extends AbstractComponent implements TextComponent
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.content.hashCode();
     return result;
   }
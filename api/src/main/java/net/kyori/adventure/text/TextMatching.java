@@ -0,0 +1,496 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.List;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compiled strategy for locating matches in the content of text components.
+ */
+abstract class TextMatching {
+  /**
+   * A reusable search over one string at a time, exposing the current match.
+   */
+  interface Cursor extends MatchResult {
+    /**
+     * Start searching {@code content}, advancing to its first match.
+     *
+     * @param content the text to search
+     * @return whether a match was found
+     */
+    boolean reset(final @NotNull String content);
+
+    /**
+     * Advance to the next match.
+     *
+     * @return whether another match was found
+     */
+    boolean find();
+  }
+
+  static @NotNull TextMatching pattern(final @NotNull Pattern pattern) {
+    if (pattern.flags() == Pattern.LITERAL && !pattern.pattern().isEmpty()) {
+      return new Literal(pattern);
+    }
+    return new Single(pattern);
+  }
+
+  static @NotNull TextMatching any(final @NotNull List<String> literals, final @NotNull List<Pattern> patterns) {
+    return new Multi(literals, patterns);
+  }
+
+  /**
+   * Gets a pattern describing everything this strategy matches.
+   *
+   * @return the pattern
+   */
+  abstract @NotNull Pattern pattern();
+
+  /**
+   * Create a cursor to search with.
+   *
+   * <p>A cursor holds the state of a single search, so must not be shared between threads.</p>
+   *
+   * @return a new cursor
+   */
+  abstract @NotNull Cursor cursor();
+
+  static final class Single extends TextMatching {
+    private final Pattern pattern;
+
+    Single(final @NotNull Pattern pattern) {
+      this.pattern = pattern;
+    }
+
+    @Override
+    @NotNull Pattern pattern() {
+      return this.pattern;
+    }
+
+    @Override
+    @NotNull Cursor cursor() {
+      final Matcher matcher = this.pattern.matcher("");
+      return new Cursor() {
+        @Override
+        public boolean reset(final @NotNull String content) {
+          return matcher.reset(content).find();
+        }
+
+        @Override
+        public boolean find() {
+          return matcher.find();
+        }
+
+        @Override
+        public int start() {
+          return matcher.start();
+        }
+
+        @Override
+        public int start(final int group) {
+          return matcher.start(group);
+        }
+
+        @Override
+        public int end() {
+          return matcher.end();
+        }
+
+        @Override
+        public int end(final int group) {
+          return matcher.end(group);
+        }
+
+        @Override
+        public String group() {
+          return matcher.group();
+        }
+
+        @Override
+        public String group(final int group) {
+          return matcher.group(group);
+        }
+
+        @Override
+        public int groupCount() {
+          return matcher.groupCount();
+        }
+      };
+    }
+  }
+
+  /**
+   * Matches a {@link Pattern#LITERAL literal} pattern with {@link String#indexOf(String, int)}.
+   */
+  static final class Literal extends TextMatching {
+    private final Pattern pattern;
+    final String literal;
+
+    Literal(final @NotNull Pattern pattern) {
+      this.pattern = pattern;
+      this.literal = pattern.pattern();
+    }
+
+    @Override
+    @NotNull Pattern pattern() {
+      return this.pattern;
+    }
+
+    @Override
+    @NotNull Cursor cursor() {
+      return new LiteralCursor(this.literal);
+    }
+  }
+
+  static final class LiteralCursor implements Cursor {
+    private final String literal;
+    private String content = "";
+    private int start = -1;
+
+    LiteralCursor(final String literal) {
+      this.literal = literal;
+    }
+
+    @Override
+    public boolean reset(final @NotNull String content) {
+      this.content = content;
+      this.start = content.indexOf(this.literal);
+      return this.start != -1;
+    }
+
+    @Override
+    public boolean find() {
+      if (this.start == -1) return false;
+      this.start = this.content.indexOf(this.literal, this.start + this.literal.length());
+      return this.start != -1;
+    }
+
+    @Override
+    public int start() {
+      this.ensureMatch();
+      return this.start;
+    }
+
+    @Override
+    public int start(final int group) {
+      if (group != 0) throw new IndexOutOfBoundsException("No group " + group);
+      return this.start();
+    }
+
+    @Override
+    public int end() {
+      this.ensureMatch();
+      return this.start + this.literal.length();
+    }
+
+    @Override
+    public int end(final int group) {
+      if (group != 0) throw new IndexOutOfBoundsException("No group " + group);
+      return this.end();
+    }
+
+    @Override
+    public String group() {
+      this.ensureMatch();
+      return this.literal;
+    }
+
+    @Override
+    public String group(final int group) {
+      if (group != 0) throw new IndexOutOfBoundsException("No group " + group);
+      return this.group();
+    }
+
+    @Override
+    public int groupCount() {
+      return 0;
+    }
+
+    private void ensureMatch() {
+      if (this.start == -1) throw new IllegalStateException("No match available");
+    }
+  }
+
+  /**
+   * Matches any of a set of literals and patterns in one pass.
+   *
+   * <p>Literals are located by a {@link LiteralAutomaton}, while patterns are combined into a
+   * single alternation, each wrapped in a capturing group so matches can be traced back to the
+   * pattern that produced them. The leftmost match wins. Where several matches begin at the same
+   * index, the longest literal is preferred, then the first pattern.</p>
+   */
+  static final class Multi extends TextMatching {
+    final List<String> literals;
+    final List<Pattern> patterns;
+    final @Nullable LiteralAutomaton automaton;
+    final @Nullable Pattern combined;
+    final int[] groupBases;
+    final int[] groupCounts;
+    private volatile @Nullable Pattern pattern;
+
+    Multi(final @NotNull List<String> literals, final @NotNull List<Pattern> patterns) {
+      this.literals = literals;
+      this.patterns = patterns;
+      this.automaton = literals.isEmpty() ? null : LiteralAutomaton.compile(literals);
+      this.groupBases = new int[patterns.size()];
+      this.groupCounts = new int[patterns.size()];
+      if (patterns.isEmpty()) {
+        this.combined = null;
+      } else {
+        final StringBuilder source = new StringBuilder();
+        int base = 1;
+        for (int i = 0, size = patterns.size(); i < size; i++) {
+          final Pattern pattern = patterns.get(i);
+          final int groups = pattern.matcher("").groupCount();
+          if (i > 0) source.append('|');
+          source.append('(');
+          appendInlined(source, pattern, base, groups);
+          source.append(')');
+          this.groupBases[i] = base;
+          this.groupCounts[i] = groups;
+          base += groups + 1;
+        }
+        this.combined = Pattern.compile(source.toString());
+      }
+    }
+
+    @Override
+    @NotNull Pattern pattern() {
+      Pattern pattern = this.pattern;
+      if (pattern == null) {
+        final StringBuilder source = new StringBuilder();
+        for (final String literal : this.literals) {
+          if (source.length() > 0) source.append('|');
+          source.append(Pattern.quote(literal));
+        }
+        if (this.combined != null) {
+          if (source.length() > 0) source.append('|');
+          source.append(this.combined.pattern());
+        }
+        pattern = Pattern.compile(source.toString());
+        this.pattern = pattern;
+      }
+      return pattern;
+    }
+
+    @Override
+    @NotNull Cursor cursor() {
+      return new MultiCursor(this);
+    }
+
+    // Rewrites a pattern so it keeps its own flags and back-references once embedded at group offset `base`
+    private static void appendInlined(final StringBuilder out, final Pattern pattern, final int base, final int groups) {
+      int flags = pattern.flags();
+      String source = pattern.pattern();
+      if ((flags & Pattern.LITERAL) != 0) {
+        source = Pattern.quote(source);
+        flags &= ~Pattern.LITERAL;
+      }
+      if ((flags & Pattern.CANON_EQ) != 0) {
+        throw new IllegalArgumentException("Patterns using CANON_EQ cannot be combined: " + pattern);
+      }
+      out.append("(?");
+      if ((flags & Pattern.UNIX_LINES) != 0) out.append('d');
+      if ((flags & Pattern.CASE_INSENSITIVE) != 0) out.append('i');
+      if ((flags & Pattern.COMMENTS) != 0) out.append('x');
+      if ((flags & Pattern.MULTILINE) != 0) out.append('m');
+      if ((flags & Pattern.DOTALL) != 0) out.append('s');
+      if ((flags & Pattern.UNICODE_CASE) != 0) out.append('u');
+      if ((flags & Pattern.UNICODE_CHARACTER_CLASS) != 0) out.append('U');
+      out.append(':');
+      for (int i = 0, length = source.length(); i < length; i++) {
+        final char c = source.charAt(i);
+        if (c != '\\' || i + 1 == length) {
+          out.append(c);
+          continue;
+        }
+        final char next = source.charAt(i + 1);
+        if (next == 'Q') {
+          final int quoteEnd = source.indexOf("\\E", i + 2);
+          final int until = quoteEnd == -1 ? length : quoteEnd + 2;
+          out.append(source, i, until);
+          i = until - 1;
+        } else if (next >= '1' && next <= '9') {
+          int reference = next - '0';
+          int j = i + 2;
+          while (j < length && source.charAt(j) >= '0' && source.charAt(j) <= '9') {
+            final int extended = reference * 10 + (source.charAt(j) - '0');
+            if (extended > groups) break;
+            reference = extended;
+            j++;
+          }
+          out.append("(?:\\").append(base + reference).append(')');
+          i = j - 1;
+        } else {
+          out.append(c).append(next);
+          i++;
+        }
+      }
+      // a trailing comment must not swallow the closing parenthesis
+      if ((flags & Pattern.COMMENTS) != 0) out.append('\n');
+      out.append(')');
+    }
+  }
+
+  static final class MultiCursor implements Cursor {
+    private static final int UNKNOWN = -2;
+    private static final int NONE = -1;
+
+    private final Multi multi;
+    private final @Nullable Matcher matcher;
+    private String content = "";
+    private int position;
+    private int regexFrom;
+    private int literalStart;
+    private int literalEnd;
+    private int regexStart;
+    private int regexEnd;
+    private int regexIndex;
+    private int start = NONE;
+    private int end = NONE;
+    private int index = NONE; // pattern index of the current match, or NONE for a literal
+
+    MultiCursor(final Multi multi) {
+      this.multi = multi;
+      this.matcher = multi.combined == null ? null : multi.combined.matcher("");
+    }
+
+    @Override
+    public boolean reset(final @NotNull String content) {
+      this.content = content;
+      this.position = 0;
+      this.regexFrom = 0;
+      this.literalStart = this.multi.automaton == null ? NONE : UNKNOWN;
+      if (this.matcher == null) {
+        this.regexStart = NONE;
+      } else {
+        this.matcher.reset(content);
+        this.regexStart = UNKNOWN;
+      }
+      return this.find();
+    }
+
+    @Override
+    public boolean find() {
+      if (this.literalStart != NONE && this.literalStart < this.position) {
+        final long found = this.multi.automaton.find(this.content, this.position);
+        if (found == LiteralAutomaton.NO_MATCH) {
+          this.literalStart = NONE;
+        } else {
+          this.literalStart = LiteralAutomaton.start(found);
+          this.literalEnd = LiteralAutomaton.end(found);
+        }
+      }
+      if (this.regexStart != NONE && this.regexStart < this.regexFrom) {
+        if (this.regexFrom <= this.content.length() && this.matcher.find(this.regexFrom)) {
+          this.regexStart = this.matcher.start();
+          this.regexEnd = this.matcher.end();
+          final int[] bases = this.multi.groupBases;
+          int alternative = 0;
+          while (this.matcher.start(bases[alternative]) == -1) alternative++;
+          this.regexIndex = alternative;
+        } else {
+          this.regexStart = NONE;
+        }
+      }
+
+      if (this.literalStart == NONE && this.regexStart == NONE) {
+        this.start = NONE;
+        this.end = NONE;
+        this.index = NONE;
+        return false;
+      }
+      if (this.regexStart == NONE || (this.literalStart != NONE && this.literalStart <= this.regexStart)) {
+        this.start = this.literalStart;
+        this.end = this.literalEnd;
+        this.index = NONE;
+        this.regexFrom = this.end;
+      } else {
+        this.start = this.regexStart;
+        this.end = this.regexEnd;
+        this.index = this.regexIndex;
+        // step past an empty match so it is not found again
+        this.regexFrom = this.start == this.end ? this.end + 1 : this.end;
+      }
+      this.position = this.end;
+      return true;
+    }
+
+    @Override
+    public int start() {
+      this.ensureMatch();
+      return this.start;
+    }
+
+    @Override
+    public int start(final int group) {
+      if (group == 0) return this.start();
+      return this.matcher.start(this.group(group, "start"));
+    }
+
+    @Override
+    public int end() {
+      this.ensureMatch();
+      return this.end;
+    }
+
+    @Override
+    public int end(final int group) {
+      if (group == 0) return this.end();
+      return this.matcher.end(this.group(group, "end"));
+    }
+
+    @Override
+    public String group() {
+      this.ensureMatch();
+      return this.content.substring(this.start, this.end);
+    }
+
+    @Override
+    public String group(final int group) {
+      if (group == 0) return this.group();
+      return this.matcher.group(this.group(group, "group"));
+    }
+
+    @Override
+    public int groupCount() {
+      this.ensureMatch();
+      return this.index == NONE ? 0 : this.multi.groupCounts[this.index];
+    }
+
+    private void ensureMatch() {
+      if (this.start == NONE) throw new IllegalStateException("No match available");
+    }
+
+    private int group(final int group, final String operation) {
+      if (group < 0 || group > this.groupCount()) throw new IndexOutOfBoundsException("No group " + group + " to get " + operation + " of");
+      return this.multi.groupBases[this.index] + group;
+    }
+  }
+}
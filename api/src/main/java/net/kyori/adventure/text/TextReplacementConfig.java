@@ -23,6 +23,8 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.MatchResult;
@@ -59,6 +61,9 @@ public interface TextReplacementConfig extends Buildable<TextReplacementConfig,
   /**
    * Get the pattern that will be searched for.
    *
+   * <p>For configurations matching any of several literals or patterns, this is a single
+   * alternation equivalent to the whole set. It is built on demand and not used for matching.</p>
+   *
    * @return the match pattern
    * @since 4.2.0
    */
@@ -112,6 +117,69 @@ public interface TextReplacementConfig extends Buildable<TextReplacementConfig,
     @Contract("_ -> this")
     @NotNull Builder match(final @NotNull Pattern pattern);
 
+    /**
+     * Match against any of the literal strings provided.
+     *
+     * <p>None of the literals will be parsed as a regular expression.</p>
+     *
+     * @param literals the literal strings to match
+     * @return this builder
+     * @see #matchAny(Iterable, Iterable)
+     * @since 4.10.0
+     */
+    @Contract("_ -> this")
+    default @NotNull Builder matchAnyLiteral(final @NotNull String@NotNull... literals) {
+      return this.matchAny(Arrays.asList(literals), Collections.emptyList());
+    }
+
+    /**
+     * Match against any of the literal strings provided.
+     *
+     * <p>None of the literals will be parsed as a regular expression.</p>
+     *
+     * @param literals the literal strings to match
+     * @return this builder
+     * @see #matchAny(Iterable, Iterable)
+     * @since 4.10.0
+     */
+    @Contract("_ -> this")
+    default @NotNull Builder matchAnyLiteral(final @NotNull Iterable<String> literals) {
+      return this.matchAny(literals, Collections.emptyList());
+    }
+
+    /**
+     * Match against any of the {@link Pattern}s provided.
+     *
+     * @param patterns the patterns to find in any searched components
+     * @return this builder
+     * @see #matchAny(Iterable, Iterable)
+     * @since 4.10.0
+     */
+    @Contract("_ -> this")
+    default @NotNull Builder matchAny(final @NotNull Pattern@NotNull... patterns) {
+      return this.matchAny(Collections.emptyList(), Arrays.asList(patterns));
+    }
+
+    /**
+     * Match against any of the literal strings and {@link Pattern}s provided.
+     *
+     * <p>Every literal and pattern is searched for in the same pass over each component, so a
+     * large set costs little more than a single pattern. The leftmost match is processed first.
+     * Where several matches begin at the same index, the longest literal is chosen, and literals
+     * take precedence over patterns, which are tried in the order provided.</p>
+     *
+     * <p>Within a replacement function, groups of the {@link MatchResult} refer to the groups
+     * of whichever pattern matched. Literal matches have no groups.</p>
+     *
+     * @param literals the literal strings to match, which must not be empty
+     * @param patterns the patterns to match, which must not use {@link Pattern#CANON_EQ}
+     * @return this builder
+     * @throws IllegalArgumentException if no literals or patterns are provided
+     * @since 4.10.0
+     */
+    @Contract("_, _ -> this")
+    @NotNull Builder matchAny(final @NotNull Iterable<String> literals, final @NotNull Iterable<Pattern> patterns);
+
     /*
      * ---------------------------
      * ---- Number of matches ----
@@ -23,6 +23,9 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
@@ -35,23 +38,23 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.Objects.requireNonNull;
 
 final class TextReplacementConfigImpl implements TextReplacementConfig {
-  private final Pattern matchPattern;
+  private final TextMatching matching;
   private final BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement;
   private final Condition continuer;
 
   TextReplacementConfigImpl(final Builder builder) {
-    this.matchPattern = builder.matchPattern;
+    this.matching = builder.matchPattern != null ? TextMatching.pattern(builder.matchPattern) : TextMatching.any(builder.matchLiterals, builder.matchPatterns);
     this.replacement = builder.replacement;
     this.continuer = builder.continuer;
   }
 
   @Override
   public @NotNull Pattern matchPattern() {
-    return this.matchPattern;
+    return this.matching.pattern();
   }
 
   TextReplacementRenderer.State createState() {
-    return new TextReplacementRenderer.State(this.matchPattern, this.replacement, this.continuer);
+    return new TextReplacementRenderer.State(this.matching, this.replacement, this.continuer);
   }
 
   @Override
@@ -62,7 +65,7 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
   @Override
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(
-      ExaminableProperty.of("matchPattern", this.matchPattern),
+      ExaminableProperty.of("matchPattern", this.matchPattern()),
       ExaminableProperty.of("replacement", this.replacement),
       ExaminableProperty.of("continuer", this.continuer)
     );
@@ -75,6 +78,8 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
 
   static final class Builder implements TextReplacementConfig.Builder {
     @Nullable Pattern matchPattern;
+    List<String> matchLiterals = Collections.emptyList();
+    List<Pattern> matchPatterns = Collections.emptyList();
     @Nullable BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement;
     TextReplacementConfig.Condition continuer = (matchResult, index, replacement) -> PatternReplacementResult.REPLACE;
 
@@ -82,7 +87,12 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
     }
 
     Builder(final TextReplacementConfigImpl instance) {
-      this.matchPattern = instance.matchPattern;
+      if (instance.matching instanceof TextMatching.Multi) {
+        this.matchLiterals = ((TextMatching.Multi) instance.matching).literals;
+        this.matchPatterns = ((TextMatching.Multi) instance.matching).patterns;
+      } else {
+        this.matchPattern = instance.matching.pattern();
+      }
       this.replacement = instance.replacement;
       this.continuer = instance.continuer;
     }
@@ -90,6 +100,26 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
     @Override
     public @NotNull Builder match(final @NotNull Pattern pattern) {
       this.matchPattern = requireNonNull(pattern, "pattern");
+      this.matchLiterals = Collections.emptyList();
+      this.matchPatterns = Collections.emptyList();
+      return this;
+    }
+
+    @Override
+    public @NotNull Builder matchAny(final @NotNull Iterable<String> literals, final @NotNull Iterable<Pattern> patterns) {
+      final List<String> matchLiterals = new ArrayList<>();
+      for (final String literal : requireNonNull(literals, "literals")) {
+        if (requireNonNull(literal, "literal").isEmpty()) throw new IllegalArgumentException("Literals to match must not be empty");
+        matchLiterals.add(literal);
+      }
+      final List<Pattern> matchPatterns = new ArrayList<>();
+      for (final Pattern pattern : requireNonNull(patterns, "patterns")) {
+        matchPatterns.add(requireNonNull(pattern, "pattern"));
+      }
+      if (matchLiterals.isEmpty() && matchPatterns.isEmpty()) throw new IllegalArgumentException("At least one literal or pattern must be provided");
+      this.matchPattern = null;
+      this.matchLiterals = Collections.unmodifiableList(matchLiterals);
+      this.matchPatterns = Collections.unmodifiableList(matchPatterns);
       return this;
     }
 
@@ -99,6 +129,17 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
       return this;
     }
 
+    @Override
+    public @NotNull Builder replacement(final @NotNull String replacement) {
+      requireNonNull(replacement, "replacement");
+      return this.replacement(new TextReplacementRenderer.ConstantReplacement(Component.text(replacement), true));
+    }
+
+    @Override
+    public @NotNull Builder replacement(final @Nullable ComponentLike replacement) {
+      return this.replacement(new TextReplacementRenderer.ConstantReplacement(ComponentLike.unbox(replacement), false));
+    }
+
     @Override
     public @NotNull Builder replacement(final @NotNull BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement) {
       this.replacement = requireNonNull(replacement, "replacement");
@@ -107,7 +148,7 @@ final class TextReplacementConfigImpl implements TextReplacementConfig {
 
     @Override
     public @NotNull TextReplacementConfig build() {
-      if (this.matchPattern == null) throw new IllegalStateException("A pattern must be provided to match against");
+      if (this.matchPattern == null && this.matchLiterals.isEmpty() && this.matchPatterns.isEmpty()) throw new IllegalStateException("A pattern must be provided to match against");
       if (this.replacement == null) throw new IllegalStateException("A replacement action must be provided");
       return new TextReplacementConfigImpl(this);
     }
@@ -27,8 +27,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.renderer.ComponentRenderer;
@@ -41,6 +39,8 @@ import org.jetbrains.annotations.Nullable;
 final class TextReplacementRenderer implements ComponentRenderer<TextReplacementRenderer.State> {
   static final TextReplacementRenderer INSTANCE = new TextReplacementRenderer();
 
+  private final ComponentVisitor<Component, State> self = new SelfReplacement();
+
   private TextReplacementRenderer() {
   }
 
@@ -52,106 +52,10 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
 
     final List<Component> oldChildren = component.children();
     final int oldChildrenSize = oldChildren.size();
-    Style oldStyle = component.style();
-    List<Component> children = null;
-    Component modified = component;
-    // replace the component itself
-    if (component instanceof TextComponent) {
-      final String content = ((TextComponent) component).content();
-      final Matcher matcher = state.pattern.matcher(content);
-      int replacedUntil = 0; // last index handled
-      while (matcher.find()) {
-        final PatternReplacementResult result = state.continuer.shouldReplace(matcher, ++state.matchCount, state.replaceCount);
-        if (result == PatternReplacementResult.CONTINUE) {
-          // ignore this replacement
-          continue;
-        } else if (result == PatternReplacementResult.STOP) {
-          // end replacement
-          state.running = false;
-          break;
-        }
-
-        if (matcher.start() == 0) {
-          // if we're a full match, modify the component directly
-          if (matcher.end() == content.length()) {
-            final ComponentLike replacement = state.replacement.apply(matcher, Component.text().content(matcher.group())
-              .style(component.style()));
-
-            modified = replacement == null ? Component.empty() : replacement.asComponent();
-
-            if (modified.style().hoverEvent() != null) {
-              oldStyle = oldStyle.hoverEvent(null); // Remove original hover if it has been replaced completely
-            }
-
-            // merge style of the match into this component to prevent unexpected loss of style
-            modified = modified.style(modified.style().merge(component.style(), Style.Merge.Strategy.IF_ABSENT_ON_TARGET));
-
-            if (children == null) { // Prepare children
-              children = new ArrayList<>(oldChildrenSize + modified.children().size());
-              children.addAll(modified.children());
-            }
-          } else {
-            // otherwise, work on a child of the root node
-            modified = Component.text("", component.style());
-            final ComponentLike child = state.replacement.apply(matcher, Component.text().content(matcher.group()));
-            if (child != null) {
-              if (children == null) {
-                children = new ArrayList<>(oldChildrenSize + 1);
-              }
-              children.add(child.asComponent());
-            }
-          }
-        } else {
-          if (children == null) {
-            children = new ArrayList<>(oldChildrenSize + 2);
-          }
-          if (state.firstMatch) {
-            // truncate parent to content before match
-            modified = ((TextComponent) component).content(content.substring(0, matcher.start()));
-          } else if (replacedUntil < matcher.start()) {
-            children.add(Component.text(content.substring(replacedUntil, matcher.start())));
-          }
-          final ComponentLike builder = state.replacement.apply(matcher, Component.text().content(matcher.group()));
-          if (builder != null) {
-            children.add(builder.asComponent());
-          }
-        }
-        state.replaceCount++;
-        state.firstMatch = false;
-        replacedUntil = matcher.end();
-      }
-      if (replacedUntil < content.length()) {
-        // append trailing content
-        if (replacedUntil > 0) {
-          if (children == null) {
-            children = new ArrayList<>(oldChildrenSize);
-          }
-          children.add(Component.text(content.substring(replacedUntil)));
-        }
-        // otherwise, we haven't modified the component, so nothing to change
-      }
-    } else if (modified instanceof TranslatableComponent) { // get TranslatableComponent with() args
-      final List<Component> args = ((TranslatableComponent) modified).args();
-      List<Component> newArgs = null;
-      for (int i = 0, size = args.size(); i < size; i++) {
-        final Component original = args.get(i);
-        final Component replaced = this.render(original, state);
-        if (replaced != component) {
-          if (newArgs == null) {
-            newArgs = new ArrayList<>(size);
-            if (i > 0) {
-              newArgs.addAll(args.subList(0, i));
-            }
-          }
-        }
-        if (newArgs != null) {
-          newArgs.add(replaced);
-        }
-      }
-      if (newArgs != null) {
-        modified = ((TranslatableComponent) modified).args(newArgs);
-      }
-    }
+    // replace the component itself, the visitor leaves the new children and style behind in the state
+    Component modified = component.accept(this.self, state);
+    List<Component> children = state.children;
+    final Style oldStyle = state.style;
     // Only visit children if we're running
     if (state.running) {
       // hover event
@@ -196,19 +100,209 @@ final class TextReplacementRenderer implements ComponentRenderer<TextReplacement
     return modified;
   }
 
+  /**
+   * Performs the replacement on a component itself, without visiting its children.
+   *
+   * <p>As its last act, each visit stores the list of children started by the replacement and
+   * the style to continue with into the state, where {@link #render(Component, State)} picks them up.</p>
+   */
+  private final class SelfReplacement implements ComponentVisitor<Component, State> {
+    @Override
+    public Component visitText(final @NotNull TextComponent component, final State state) {
+      final List<Component> oldChildren = component.children();
+      final int oldChildrenSize = oldChildren.size();
+      Style oldStyle = component.style();
+      List<Component> children = null;
+      Component modified = component;
+      final String content = component.content();
+      final TextMatching.Cursor matcher = state.cursor;
+      int replacedUntil = 0; // last index handled
+      if (matcher.reset(content)) {
+        do {
+          final PatternReplacementResult result = state.continuer.shouldReplace(matcher, ++state.matchCount, state.replaceCount);
+          if (result == PatternReplacementResult.CONTINUE) {
+            // ignore this replacement
+            continue;
+          } else if (result == PatternReplacementResult.STOP) {
+            // end replacement
+            state.running = false;
+            break;
+          }
+
+          if (matcher.start() == 0) {
+            // if we're a full match, modify the component directly
+            if (matcher.end() == content.length()) {
+              final ComponentLike replacement = state.replace(matcher, component.style());
+
+              modified = replacement == null ? Component.empty() : replacement.asComponent();
+
+              if (modified.style().hoverEvent() != null) {
+                oldStyle = oldStyle.hoverEvent(null); // Remove original hover if it has been replaced completely
+              }
+
+              // merge style of the match into this component to prevent unexpected loss of style
+              modified = modified.style(modified.style().merge(component.style(), Style.Merge.Strategy.IF_ABSENT_ON_TARGET));
+
+              if (children == null) { // Prepare children
+                children = new ArrayList<>(oldChildrenSize + modified.children().size());
+                children.addAll(modified.children());
+              }
+            } else {
+              // otherwise, work on a child of the root node
+              modified = Component.text("", component.style());
+              final ComponentLike child = state.replace(matcher, null);
+              if (child != null) {
+                if (children == null) {
+                  children = new ArrayList<>(oldChildrenSize + 1);
+                }
+                children.add(child.asComponent());
+              }
+            }
+          } else {
+            if (children == null) {
+              children = new ArrayList<>(oldChildrenSize + 2);
+            }
+            if (state.firstMatch) {
+              // truncate parent to content before match
+              modified = component.content(content.substring(0, matcher.start()));
+            } else if (replacedUntil < matcher.start()) {
+              children.add(Component.text(content.substring(replacedUntil, matcher.start())));
+            }
+            final ComponentLike builder = state.replace(matcher, null);
+            if (builder != null) {
+              children.add(builder.asComponent());
+            }
+          }
+          state.replaceCount++;
+          state.firstMatch = false;
+          replacedUntil = matcher.end();
+        } while (matcher.find());
+      }
+      if (replacedUntil < content.length()) {
+        // append trailing content
+        if (replacedUntil > 0) {
+          if (children == null) {
+            children = new ArrayList<>(oldChildrenSize);
+          }
+          children.add(Component.text(content.substring(replacedUntil)));
+        }
+        // otherwise, we haven't modified the component, so nothing to change
+      }
+      state.children = children;
+      state.style = oldStyle;
+      return modified;
+    }
+
+    @Override
+    public Component visitTranslatable(final @NotNull TranslatableComponent component, final State state) {
+      // get TranslatableComponent with() args
+      final List<Component> args = component.args();
+      List<Component> newArgs = null;
+      for (int i = 0, size = args.size(); i < size; i++) {
+        final Component original = args.get(i);
+        final Component replaced = TextReplacementRenderer.this.render(original, state);
+        if (replaced != original) {
+          if (newArgs == null) {
+            newArgs = new ArrayList<>(size);
+            if (i > 0) {
+              newArgs.addAll(args.subList(0, i));
+            }
+          }
+        }
+        if (newArgs != null) {
+          newArgs.add(replaced);
+        }
+      }
+      return this.unchanged(newArgs == null ? component : component.args(newArgs), state);
+    }
+
+    @Override
+    public Component visitKeybind(final @NotNull KeybindComponent component, final State state) {
+      return this.unchanged(component, state);
+    }
+
+    @Override
+    public Component visitScore(final @NotNull ScoreComponent component, final State state) {
+      return this.unchanged(component, state);
+    }
+
+    @Override
+    public Component visitSelector(final @NotNull SelectorComponent component, final State state) {
+      return this.unchanged(component, state);
+    }
+
+    @Override
+    public Component visitBlockNbt(final @NotNull BlockNBTComponent component, final State state) {
+      return this.unchanged(component, state);
+    }
+
+    @Override
+    public Component visitEntityNbt(final @NotNull EntityNBTComponent component, final State state) {
+      return this.unchanged(component, state);
+    }
+
+    @Override
+    public Component visitStorageNbt(final @NotNull StorageNBTComponent component, final State state) {
+      return this.unchanged(component, state);
+    }
+
+    @Override
+    public Component visitUnknown(final @NotNull Component component, final State state) {
+      return this.unchanged(component, state);
+    }
+
+    private Component unchanged(final Component component, final State state) {
+      state.children = null;
+      state.style = component.style();
+      return component;
+    }
+  }
+
+  /**
+   * A replacement producing the same component for every match, sparing a match builder.
+   */
+  static final class ConstantReplacement implements BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> {
+    final @Nullable Component replacement;
+    final boolean styled; // whether the replacement is text that inherits the style of a full match
+
+    ConstantReplacement(final @Nullable Component replacement, final boolean styled) {
+      this.replacement = replacement;
+      this.styled = styled;
+    }
+
+    @Override
+    public @Nullable ComponentLike apply(final MatchResult result, final TextComponent.Builder builder) {
+      return this.styled ? builder.content(((TextComponent) this.replacement).content()) : this.replacement;
+    }
+  }
+
   static final class State {
-    final Pattern pattern;
+    final TextMatching.Cursor cursor;
     final BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement;
     final TextReplacementConfig.Condition continuer;
     boolean running = true;
     int matchCount = 0;
     int replaceCount = 0;
     boolean firstMatch = true;
+    // left behind by the replacement of a component itself
+    @Nullable List<Component> children;
+    Style style;
 
-    State(final @NotNull Pattern pattern, final @NotNull BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement, final TextReplacementConfig.@NotNull Condition continuer) {
-      this.pattern = pattern;
+    State(final @NotNull TextMatching matching, final @NotNull BiFunction<MatchResult, TextComponent.Builder, @Nullable ComponentLike> replacement, final TextReplacementConfig.@NotNull Condition continuer) {
+      this.cursor = matching.cursor();
       this.replacement = replacement;
       this.continuer = continuer;
     }
+
+    @Nullable ComponentLike replace(final @NotNull MatchResult match, final @Nullable Style style) {
+      if (this.replacement instanceof ConstantReplacement) {
+        final ConstantReplacement constant = (ConstantReplacement) this.replacement;
+        // a text replacement takes on the style a match builder would have had
+        return constant.styled && style != null ? constant.replacement.style(style) : constant.replacement;
+      }
+      final TextComponent.Builder builder = Component.text().content(match.group());
+      if (style != null) builder.style(style);
+      return this.replacement.apply(match, builder);
+    }
   }
 }
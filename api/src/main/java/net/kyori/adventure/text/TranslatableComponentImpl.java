@@ -87,6 +87,11 @@ final class TranslatableComponentImpl extends AbstractComponent implements Trans
     return new TranslatableComponentImpl(this.children, requireNonNull(style, "style"), this.key, this.args);
   }
 
+  @Override
+  public <R, C> R accept(final @NotNull ComponentVisitor<R, C> visitor, final C context) {
+    return visitor.visitTranslatable(this, context);
+  }
+
   @Override
   public boolean equals(final @Nullable Object other) {
     if (this == other) return true;
@@ -97,8 +102,8 @@ final class TranslatableComponentImpl extends AbstractComponent implements Trans
   }
 
   @Override
-  public int hashCode() {
-    int result = super.hashCode();
+  int computeHashCode() {
+    int result = super.computeHashCode();
     result = (31 * result) + this.key.hashCode();
     result = (31 * result) + this.args.hashCode();
     return result;
@@ -81,6 +81,17 @@ public interface ComponentFlattener extends Buildable<ComponentFlattener, Compon
    */
   void flatten(final @NotNull Component input, final @NotNull FlattenerListener listener);
 
+  /**
+   * Perform a flattening on the component, collecting its text and the effective style of each run of characters.
+   *
+   * @param input the component to be flattened
+   * @return the styled text
+   * @since 4.10.0
+   */
+  default @NotNull StyledText styledText(final @NotNull Component input) {
+    return StyledTextImpl.flatten(this, input);
+  }
+
   /**
    * A builder for a component flattener.
    *
@@ -23,27 +23,44 @@
  */
 package net.kyori.adventure.text.flattener;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.EntityNBTComponent;
 import net.kyori.adventure.text.KeybindComponent;
 import net.kyori.adventure.text.ScoreComponent;
 import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslatableComponent;
-import net.kyori.adventure.text.format.Style;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.Objects.requireNonNull;
 
 final class ComponentFlattenerImpl implements ComponentFlattener {
+  // the component types with a fixed place in the dispatch table, most frequent first
+  private static final Class<?>[] KINDS = {
+    TextComponent.class,
+    TranslatableComponent.class,
+    KeybindComponent.class,
+    ScoreComponent.class,
+    SelectorComponent.class,
+    BlockNBTComponent.class,
+    EntityNBTComponent.class,
+    StorageNBTComponent.class
+  };
+  private static final int UNKNOWN_KIND = -1;
+
   @SuppressWarnings("deprecation")
   static final ComponentFlattener BASIC = new BuilderImpl()
     .mapper(KeybindComponent.class, component -> component.keybind()) // IntelliJ is wrong here, this is fine
@@ -62,77 +79,92 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
   private final Map<Class<?>, Function<?, String>> flatteners;
   private final Map<Class<?>, BiConsumer<?, Consumer<Component>>> complexFlatteners;
   private final ConcurrentMap<Class<?>, Handler> propagatedFlatteners = new ConcurrentHashMap<>();
+  private final Function<Class<?>, Handler> resolver = this::resolve;
   private final Function<Component, String> unknownHandler;
+  private final @Nullable Handler unknown;
+  // resolved handlers per kind, Handler.NONE where nothing applies, or null where the runtime class decides
+  private final @Nullable Handler[] dispatch = new Handler[KINDS.length];
 
   ComponentFlattenerImpl(final Map<Class<?>, Function<?, String>> flatteners, final Map<Class<?>, BiConsumer<?, Consumer<Component>>> complexFlatteners, final @Nullable Function<Component, String> unknownHandler) {
     this.flatteners = Collections.unmodifiableMap(new HashMap<>(flatteners));
     this.complexFlatteners = Collections.unmodifiableMap(new HashMap<>(complexFlatteners));
     this.unknownHandler = unknownHandler;
+    this.unknown = unknownHandler == null ? null : (component, listener, sink) -> listener.component(unknownHandler.apply(component));
+    for (int kind = 0; kind < KINDS.length; kind++) {
+      if (!this.hasSubtypeMapping(KINDS[kind])) {
+        this.dispatch[kind] = this.resolve(KINDS[kind]);
+      }
+    }
   }
 
-  @Override
-  public void flatten(final @NotNull Component input, final @NotNull FlattenerListener listener) {
-    this.flatten0(input, listener, 0);
+  // a mapping for a subtype of a known kind applies to some implementations only, so must be resolved per class
+  private boolean hasSubtypeMapping(final Class<?> kind) {
+    for (final Class<?> type : this.flatteners.keySet()) {
+      if (type != kind && kind.isAssignableFrom(type)) return true;
+    }
+    for (final Class<?> type : this.complexFlatteners.keySet()) {
+      if (type != kind && kind.isAssignableFrom(type)) return true;
+    }
+    return false;
   }
 
-  private void flatten0(final @NotNull Component input, final @NotNull FlattenerListener listener, final int depth) {
+  @Override
+  public void flatten(final @NotNull Component input, final @NotNull FlattenerListener listener) {
     requireNonNull(input, "input");
     requireNonNull(listener, "listener");
     if (input == Component.empty()) return;
-    if (depth > MAX_DEPTH) {
-      throw new IllegalStateException("Exceeded maximum depth of " + MAX_DEPTH + " while attempting to flatten components!");
-    }
-
-    final @Nullable Handler flattener = this.flattener(input);
-    final Style inputStyle = input.style();
+    new Walk(this, listener).run(input);
+  }
 
-    listener.pushStyle(inputStyle);
-    try {
-      if (flattener != null) {
-        flattener.handle(input, listener, depth + 1);
+  private @Nullable Handler flattener(final Component component) {
+    final int kind = kind(component);
+    @Nullable Handler flattener = kind == UNKNOWN_KIND ? null : this.dispatch[kind];
+    if (flattener == null) {
+      flattener = this.propagatedFlatteners.get(component.getClass());
+      if (flattener == null) {
+        flattener = this.propagatedFlatteners.computeIfAbsent(component.getClass(), this.resolver);
       }
-
-      if (!input.children().isEmpty()) {
-        for (final Component child : input.children()) {
-          this.flatten0(child, listener, depth + 1);
-        }
-      }
-    } finally {
-      listener.popStyle(inputStyle);
     }
+    return flattener == Handler.NONE ? this.unknown : flattener;
   }
 
-  @SuppressWarnings("unchecked")
-  private <T extends Component> @Nullable Handler flattener(final T test) {
-    final Handler flattener = this.propagatedFlatteners.computeIfAbsent(test.getClass(), key -> {
-      // direct flatteners (just return strings)
-      final @Nullable Function<Component, String> value = (Function<Component, String>) this.flatteners.get(key);
-      if (value != null) return (component, listener, depth) -> listener.component(value.apply(component));
-
-      for (final Map.Entry<Class<?>, Function<?, String>> entry : this.flatteners.entrySet()) {
-        if (entry.getKey().isAssignableFrom(key)) {
-          return (component, listener, depth) -> listener.component(((Function<Component, String>) entry.getValue()).apply(component));
-        }
-      }
+  private static int kind(final Component component) {
+    if (component instanceof TextComponent) return 0;
+    if (component instanceof TranslatableComponent) return 1;
+    if (component instanceof KeybindComponent) return 2;
+    if (component instanceof ScoreComponent) return 3;
+    if (component instanceof SelectorComponent) return 4;
+    if (component instanceof BlockNBTComponent) return 5;
+    if (component instanceof EntityNBTComponent) return 6;
+    if (component instanceof StorageNBTComponent) return 7;
+    return UNKNOWN_KIND;
+  }
 
-      // complex flatteners (these provide extra components)
-      final @Nullable BiConsumer<Component, Consumer<Component>> complexValue = (BiConsumer<Component, Consumer<Component>>) this.complexFlatteners.get(key);
-      if (complexValue != null) return (component, listener, depth) -> complexValue.accept(component, c -> this.flatten0(c, listener, depth));
+  @SuppressWarnings("unchecked")
+  private Handler resolve(final Class<?> type) {
+    // direct flatteners (just return strings)
+    final @Nullable Function<Component, String> value = (Function<Component, String>) this.flatteners.get(type);
+    if (value != null) return (component, listener, sink) -> listener.component(value.apply(component));
 
-      for (final Map.Entry<Class<?>, BiConsumer<?, Consumer<Component>>> entry : this.complexFlatteners.entrySet()) {
-        if (entry.getKey().isAssignableFrom(key)) {
-          return (component, listener, depth) -> ((BiConsumer<Component, Consumer<Component>>) entry.getValue()).accept(component, c -> this.flatten0(c, listener, depth));
-        }
+    for (final Map.Entry<Class<?>, Function<?, String>> entry : this.flatteners.entrySet()) {
+      if (entry.getKey().isAssignableFrom(type)) {
+        final Function<Component, String> function = (Function<Component, String>) entry.getValue();
+        return (component, listener, sink) -> listener.component(function.apply(component));
       }
+    }
 
-      return Handler.NONE;
-    });
+    // complex flatteners (these provide extra components)
+    final @Nullable BiConsumer<Component, Consumer<Component>> complexValue = (BiConsumer<Component, Consumer<Component>>) this.complexFlatteners.get(type);
+    if (complexValue != null) return (component, listener, sink) -> complexValue.accept(component, sink);
 
-    if (flattener == Handler.NONE) {
-      return this.unknownHandler == null ? null : (component, listener, depth) -> this.unknownHandler.apply(component);
-    } else {
-      return flattener;
+    for (final Map.Entry<Class<?>, BiConsumer<?, Consumer<Component>>> entry : this.complexFlatteners.entrySet()) {
+      if (entry.getKey().isAssignableFrom(type)) {
+        final BiConsumer<Component, Consumer<Component>> consumer = (BiConsumer<Component, Consumer<Component>>) entry.getValue();
+        return (component, listener, sink) -> consumer.accept(component, sink);
+      }
     }
+
+    return Handler.NONE;
   }
 
   @Override
@@ -140,12 +172,100 @@ final class ComponentFlattenerImpl implements ComponentFlattener {
     return new BuilderImpl(this.flatteners, this.complexFlatteners, this.unknownHandler);
   }
 
-  // A function that allows nesting other flatten operations
+  // A function emitting the content of a single component, passing any nested components to the sink
   @FunctionalInterface
   interface Handler {
-    Handler NONE = (input, listener, depth) -> {};
+    Handler NONE = (input, listener, sink) -> {};
+
+    void handle(final Component input, final FlattenerListener listener, final Consumer<Component> sink);
+  }
+
+  /**
+   * A single depth-first traversal, using an explicit stack rather than recursion.
+   *
+   * <p>Each frame visits the components produced by its complex flattener, if any, followed by
+   * its children. Those produced components are held on a shared stack of their own.</p>
+   */
+  static final class Walk implements Consumer<Component> {
+    private final ComponentFlattenerImpl flattener;
+    private final FlattenerListener listener;
+    private Component[] nodes = new Component[16];
+    private int[] positions = new int[16];
+    private int[] producedStarts = new int[16];
+    private int[] producedEnds = new int[16];
+    private int size;
+    private Component[] produced = new Component[0];
+    private int producedSize;
 
-    void handle(final Component input, final FlattenerListener listener, final int depth);
+    Walk(final ComponentFlattenerImpl flattener, final FlattenerListener listener) {
+      this.flattener = flattener;
+      this.listener = listener;
+    }
+
+    void run(final Component input) {
+      try {
+        this.enter(input);
+        while (this.size > 0) {
+          final int top = this.size - 1;
+          final Component node = this.nodes[top];
+          final int position = this.positions[top]++;
+          final int producedStart = this.producedStarts[top];
+          final int producedCount = this.producedEnds[top] - producedStart;
+          if (position < producedCount) {
+            this.enter(this.produced[producedStart + position]);
+            continue;
+          }
+          final List<Component> children = node.children();
+          if (position - producedCount < children.size()) {
+            this.enter(children.get(position - producedCount));
+            continue;
+          }
+          this.size--;
+          this.nodes[top] = null;
+          while (this.producedSize > producedStart) {
+            this.produced[--this.producedSize] = null;
+          }
+          this.listener.popStyle(node.style());
+        }
+      } finally {
+        // only reached with frames remaining when a handler or listener failed
+        while (this.size > 0) {
+          this.listener.popStyle(this.nodes[--this.size].style());
+        }
+      }
+    }
+
+    private void enter(final Component component) {
+      if (component == Component.empty()) return;
+      if (this.size > MAX_DEPTH) {
+        throw new IllegalStateException("Exceeded maximum depth of " + MAX_DEPTH + " while attempting to flatten components!");
+      }
+      this.listener.pushStyle(component.style());
+      if (this.size == this.nodes.length) {
+        final int capacity = this.size * 2;
+        this.nodes = Arrays.copyOf(this.nodes, capacity);
+        this.positions = Arrays.copyOf(this.positions, capacity);
+        this.producedStarts = Arrays.copyOf(this.producedStarts, capacity);
+        this.producedEnds = Arrays.copyOf(this.producedEnds, capacity);
+      }
+      final int frame = this.size++;
+      this.nodes[frame] = component;
+      this.positions[frame] = 0;
+      this.producedStarts[frame] = this.producedSize;
+      final @Nullable Handler handler = this.flattener.flattener(component);
+      if (handler != null) {
+        handler.handle(component, this.listener, this);
+      }
+      this.producedEnds[frame] = this.producedSize;
+    }
+
+    @Override
+    public void accept(final Component component) {
+      if (this.producedSize == this.produced.length) {
+        this.produced = Arrays.copyOf(this.produced, Math.max(8, this.producedSize * 2));
+      }
+      this.produced[this.producedSize++] = requireNonNull(component, "component");
+    }
   }
 
   static final class BuilderImpl implements Builder {
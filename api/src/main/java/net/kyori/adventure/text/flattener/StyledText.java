@@ -0,0 +1,201 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.flattener;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.examination.Examinable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The flattened text of a component, with the style applying to each run of characters.
+ *
+ * <p>Styled text is a single string plus a table of contiguous spans, each holding the effective
+ * style of its characters: the style of the component that contributed them, merged over the styles
+ * of its parents. Neighbouring spans never share a style.</p>
+ *
+ * <p>It is produced by one {@link ComponentFlattener#styledText(Component) flattening pass}, after
+ * which measuring, cutting and re-rendering the text need not walk the component tree again.</p>
+ *
+ * @since 4.10.0
+ */
+@ApiStatus.NonExtendable
+public interface StyledText extends ComponentLike, Examinable {
+  /**
+   * Gets empty styled text.
+   *
+   * @return empty styled text
+   * @since 4.10.0
+   */
+  static @NotNull StyledText empty() {
+    return StyledTextImpl.EMPTY;
+  }
+
+  /**
+   * Gets the plain text, without any styling.
+   *
+   * @return the plain text
+   * @since 4.10.0
+   */
+  @NotNull String text();
+
+  /**
+   * Gets the number of characters in the text.
+   *
+   * @return the length
+   * @since 4.10.0
+   */
+  int length();
+
+  /**
+   * Gets the number of styled spans.
+   *
+   * @return the span count
+   * @since 4.10.0
+   */
+  int spanCount();
+
+  /**
+   * Gets the index of the first character in a span.
+   *
+   * @param span the span
+   * @return the start index, inclusive
+   * @throws IndexOutOfBoundsException if there is no such span
+   * @since 4.10.0
+   */
+  int spanStart(final int span);
+
+  /**
+   * Gets the index after the last character in a span.
+   *
+   * @param span the span
+   * @return the end index, exclusive
+   * @throws IndexOutOfBoundsException if there is no such span
+   * @since 4.10.0
+   */
+  int spanEnd(final int span);
+
+  /**
+   * Gets the effective style of a span.
+   *
+   * @param span the span
+   * @return the style
+   * @throws IndexOutOfBoundsException if there is no such span
+   * @since 4.10.0
+   */
+  @NotNull Style spanStyle(final int span);
+
+  /**
+   * Gets the span containing a character.
+   *
+   * @param index the character index
+   * @return the span
+   * @throws IndexOutOfBoundsException if the index is outside the text
+   * @since 4.10.0
+   */
+  int spanAt(final int index);
+
+  /**
+   * Gets the styled text between two indices.
+   *
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the styled text in that range
+   * @throws IndexOutOfBoundsException if the range is outside the text
+   * @since 4.10.0
+   */
+  @NotNull StyledText substring(final int start, final int end);
+
+  /**
+   * Limits the text to a maximum length, keeping the styles of the characters that remain.
+   *
+   * @param maxLength the maximum length
+   * @return this styled text if short enough, otherwise its first {@code maxLength} characters
+   * @since 4.10.0
+   */
+  default @NotNull StyledText truncate(final int maxLength) {
+    if (maxLength < 0) throw new IllegalArgumentException("maxLength must not be negative, was " + maxLength);
+    return this.length() <= maxLength ? this : this.substring(0, maxLength);
+  }
+
+  /**
+   * Visits each span in order.
+   *
+   * @param consumer the span consumer
+   * @since 4.10.0
+   */
+  default void forEachSpan(final @NotNull SpanConsumer consumer) {
+    final String text = this.text();
+    for (int i = 0, count = this.spanCount(); i < count; i++) {
+      consumer.accept(text, this.spanStart(i), this.spanEnd(i), this.spanStyle(i));
+    }
+  }
+
+  /**
+   * Replays this text into a flattener listener, as one pushed style and component per span.
+   *
+   * <p>Listeners written for {@link ComponentFlattener} can so render styled text directly.
+   * Each pushed style is already effective, so the listener never sees nested styles.</p>
+   *
+   * @param listener the listener
+   * @since 4.10.0
+   */
+  default void flatten(final @NotNull FlattenerListener listener) {
+    this.forEachSpan((text, start, end, style) -> {
+      listener.pushStyle(style);
+      listener.component(text.substring(start, end));
+      listener.popStyle(style);
+    });
+  }
+
+  /**
+   * Creates a component of this text, as an unstyled parent with one child per span.
+   *
+   * @return the component
+   * @since 4.10.0
+   */
+  @Override
+  @NotNull Component asComponent();
+
+  /**
+   * A consumer of the spans in styled text.
+   *
+   * @since 4.10.0
+   */
+  @FunctionalInterface
+  interface SpanConsumer {
+    /**
+     * Accepts a span.
+     *
+     * @param text the whole text
+     * @param start the start index of the span, inclusive
+     * @param end the end index of the span, exclusive
+     * @param style the effective style of the span
+     * @since 4.10.0
+     */
+    void accept(final @NotNull String text, final int start, final int end, final @NotNull Style style);
+  }
+}
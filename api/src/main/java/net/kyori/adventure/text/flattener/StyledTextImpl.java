@@ -0,0 +1,206 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.flattener;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class StyledTextImpl implements StyledText {
+  static final StyledText EMPTY = new StyledTextImpl("", new int[0], new Style[0]);
+
+  private final String text;
+  private final int[] ends;
+  private final Style[] styles;
+
+  private StyledTextImpl(final String text, final int[] ends, final Style[] styles) {
+    this.text = text;
+    this.ends = ends;
+    this.styles = styles;
+  }
+
+  @Override
+  public @NotNull String text() {
+    return this.text;
+  }
+
+  @Override
+  public int length() {
+    return this.text.length();
+  }
+
+  @Override
+  public int spanCount() {
+    return this.ends.length;
+  }
+
+  @Override
+  public int spanStart(final int span) {
+    if (span < 0 || span >= this.ends.length) throw new IndexOutOfBoundsException("span " + span + " of " + this.ends.length);
+    return span == 0 ? 0 : this.ends[span - 1];
+  }
+
+  @Override
+  public int spanEnd(final int span) {
+    return this.ends[span];
+  }
+
+  @Override
+  public @NotNull Style spanStyle(final int span) {
+    return this.styles[span];
+  }
+
+  @Override
+  public int spanAt(final int index) {
+    if (index < 0 || index >= this.text.length()) throw new IndexOutOfBoundsException("index " + index + " of " + this.text.length());
+    final int found = Arrays.binarySearch(this.ends, index);
+    // an exact hit is the end of the previous span, so the index begins the next one
+    return found >= 0 ? found + 1 : -found - 1;
+  }
+
+  @Override
+  public @NotNull StyledText substring(final int start, final int end) {
+    if (start < 0 || end > this.text.length() || start > end) {
+      throw new IndexOutOfBoundsException("range [" + start + ", " + end + ") of " + this.text.length());
+    }
+    if (start == end) return EMPTY;
+    if (start == 0 && end == this.text.length()) return this;
+    final int first = this.spanAt(start);
+    final int last = this.spanAt(end - 1);
+    final int[] ends = new int[last - first + 1];
+    for (int i = 0; i < ends.length; i++) {
+      ends[i] = Math.min(this.ends[first + i], end) - start;
+    }
+    return new StyledTextImpl(this.text.substring(start, end), ends, Arrays.copyOfRange(this.styles, first, last + 1));
+  }
+
+  @Override
+  public @NotNull Component asComponent() {
+    if (this.ends.length == 0) return Component.empty();
+    if (this.ends.length == 1) return Component.text(this.text, this.styles[0]);
+    final TextComponent.Builder builder = Component.text();
+    int start = 0;
+    for (int i = 0; i < this.ends.length; i++) {
+      builder.append(Component.text(this.text.substring(start, this.ends[i]), this.styles[i]));
+      start = this.ends[i];
+    }
+    return builder.build();
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) return true;
+    if (!(other instanceof StyledTextImpl)) return false;
+    final StyledTextImpl that = (StyledTextImpl) other;
+    return this.text.equals(that.text) && Arrays.equals(this.ends, that.ends) && Arrays.equals(this.styles, that.styles);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = this.text.hashCode();
+    result = (31 * result) + Arrays.hashCode(this.ends);
+    result = (31 * result) + Arrays.hashCode(this.styles);
+    return result;
+  }
+
+  @Override
+  public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("text", this.text),
+      ExaminableProperty.of("ends", this.ends),
+      ExaminableProperty.of("styles", this.styles)
+    );
+  }
+
+  @Override
+  public String toString() {
+    return this.examine(StringExaminer.simpleEscaping());
+  }
+
+  /**
+   * Collects styled text from a single flattening pass.
+   */
+  static final class Collector implements FlattenerListener {
+    private final StringBuilder text = new StringBuilder();
+    private Style[] stack = new Style[8];
+    private int head = -1;
+    private int[] ends = new int[8];
+    private Style[] styles = new Style[8];
+    private int count;
+
+    @Override
+    public void pushStyle(final @NotNull Style style) {
+      final Style effective = this.head < 0 ? style : this.stack[this.head].merge(style);
+      if (++this.head == this.stack.length) {
+        this.stack = Arrays.copyOf(this.stack, this.stack.length * 2);
+      }
+      this.stack[this.head] = effective;
+    }
+
+    @Override
+    public void component(final @NotNull String text) {
+      if (text.isEmpty()) return;
+      if (this.head < 0) throw new IllegalStateException("No style has been pushed!");
+      this.text.append(text);
+      final Style style = this.stack[this.head];
+      final int last = this.count - 1;
+      if (last >= 0 && (this.styles[last] == style || this.styles[last].equals(style))) {
+        this.ends[last] = this.text.length();
+        return;
+      }
+      if (this.count == this.ends.length) {
+        this.ends = Arrays.copyOf(this.ends, this.count * 2);
+        this.styles = Arrays.copyOf(this.styles, this.count * 2);
+      }
+      this.ends[this.count] = this.text.length();
+      this.styles[this.count] = style;
+      this.count++;
+    }
+
+    @Override
+    public void popStyle(final @NotNull Style style) {
+      if (this.head < 0) throw new IllegalStateException("Tried to pop beyond what was pushed!");
+      this.stack[this.head--] = null;
+    }
+
+    @NotNull StyledText build() {
+      if (this.count == 0) return EMPTY;
+      return new StyledTextImpl(this.text.toString(), Arrays.copyOf(this.ends, this.count), Arrays.copyOf(this.styles, this.count));
+    }
+  }
+
+  static @NotNull StyledText flatten(final @NotNull ComponentFlattener flattener, final @NotNull Component input) {
+    final Collector collector = new Collector();
+    flattener.flatten(requireNonNull(input, "input"), collector);
+    return collector.build();
+  }
+}
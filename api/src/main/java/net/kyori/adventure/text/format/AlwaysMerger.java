@@ -45,6 +45,11 @@ final class AlwaysMerger implements Merger {
     target.decoration(decoration, state);
   }
 
+  @Override
+  public void mergeDecorations(final StyleImpl.BuilderImpl target, final int decorations) {
+    target.decorations = StyleImpl.mergeDecorationsAlways(target.decorations, decorations);
+  }
+
   @Override
   public void mergeClickEvent(final StyleImpl.BuilderImpl target, final @Nullable ClickEvent event) {
     target.clickEvent(event);
@@ -47,6 +47,11 @@ final class IfAbsentOnTargetMerger implements Merger {
     target.decorationIfAbsent(decoration, state);
   }
 
+  @Override
+  public void mergeDecorations(final StyleImpl.BuilderImpl target, final int decorations) {
+    target.decorations = StyleImpl.mergeDecorationsIfAbsent(target.decorations, decorations);
+  }
+
   @Override
   public void mergeClickEvent(final StyleImpl.BuilderImpl target, final @Nullable ClickEvent event) {
     if (target.clickEvent == null) {
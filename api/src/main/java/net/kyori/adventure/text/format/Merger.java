@@ -35,6 +35,8 @@ interface Merger {
 
   void mergeDecoration(final BuilderImpl target, final @NotNull TextDecoration decoration, final TextDecoration.@NotNull State state);
 
+  void mergeDecorations(final BuilderImpl target, final int decorations);
+
   void mergeClickEvent(final BuilderImpl target, final @Nullable ClickEvent event);
 
   void mergeHoverEvent(final BuilderImpl target, final @Nullable HoverEvent<?> event);
@@ -109,7 +109,7 @@ public interface Style extends Buildable<Style, Style.Builder>, Examinable, Styl
    */
   static @NotNull Style style(final @Nullable TextColor color) {
     if (color == null) return empty();
-    return new StyleImpl(null, color, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, null, null, null);
+    return new StyleImpl(null, color, 0, null, null, null);
   }
 
   /**
@@ -573,6 +573,8 @@ public interface Style extends Buildable<Style, Style.Builder>, Examinable, Styl
 
     static final Set<Merge> ALL = of(values());
     static final Set<Merge> COLOR_AND_DECORATIONS = of(COLOR, DECORATIONS);
+    private static final int ALL_MASK = (1 << values().length) - 1;
+    private static final int COLOR_AND_DECORATIONS_MASK = (1 << COLOR.ordinal()) | (1 << DECORATIONS.ordinal());
 
     /**
      * Gets a merge set of all merge types.
@@ -609,6 +611,17 @@ public interface Style extends Buildable<Style, Style.Builder>, Examinable, Styl
       return merges.size() == ALL.size();
     }
 
+    // one bit per merge type, indexed by ordinal
+    static int mask(final @NotNull Set<Merge> merges) {
+      if (merges == ALL) return ALL_MASK;
+      if (merges == COLOR_AND_DECORATIONS) return COLOR_AND_DECORATIONS_MASK;
+      int mask = 0;
+      for (final Merge merge : merges) {
+        mask |= 1 << merge.ordinal();
+      }
+      return mask;
+    }
+
     /**
      * A merge strategy.
      *
@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.format;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -35,46 +36,90 @@ import net.kyori.examination.ExaminableProperty;
 import net.kyori.examination.string.StringExaminer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 import static java.util.Objects.requireNonNull;
 
 final class StyleImpl implements Style {
-  static final StyleImpl EMPTY = new StyleImpl(null, null, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, TextDecoration.State.NOT_SET, null, null, null);
+  static final StyleImpl EMPTY = new StyleImpl(null, null, 0, null, null, null);
   static final TextDecoration[] DECORATIONS = TextDecoration.values();
+  private static final TextDecoration.State[] STATES = TextDecoration.State.values();
+  // decorations are packed two bits per decoration (indexed by ordinal), holding the ordinal of the state
+  private static final int DECORATION_BITS = 2;
+  private static final int DECORATION_MASK = 0b11;
+  private static final int DECORATION_LOW_BITS = 0b0101010101;
+  // presence flags share their layout with merge masks, see Merge#mask(Set)
+  private static final int HAS_COLOR = 1 << Merge.COLOR.ordinal();
+  private static final int HAS_DECORATIONS = 1 << Merge.DECORATIONS.ordinal();
+  private static final int HAS_EVENTS = 1 << Merge.EVENTS.ordinal();
+  private static final int HAS_INSERTION = 1 << Merge.INSERTION.ordinal();
+  private static final int HAS_FONT = 1 << Merge.FONT.ordinal();
   // visible to avoid generating accessors when creating a builder
   final @Nullable Key font;
   final @Nullable TextColor color;
-  final TextDecoration.State obfuscated;
-  final TextDecoration.State bold;
-  final TextDecoration.State strikethrough;
-  final TextDecoration.State underlined;
-  final TextDecoration.State italic;
+  final int decorations;
   final @Nullable ClickEvent clickEvent;
   final @Nullable HoverEvent<?> hoverEvent;
   final @Nullable String insertion;
+  private final int presence;
+  private int hashCode; // lazily computed, styles are immutable
+
+  // absent values leave the canonical empty style, which isEmpty() tests for by identity
+  static @NotNull StyleImpl of(
+    final @Nullable Key font,
+    final @Nullable TextColor color,
+    final int decorations,
+    final @Nullable ClickEvent clickEvent,
+    final @Nullable HoverEvent<?> hoverEvent,
+    final @Nullable String insertion
+  ) {
+    if (font == null && color == null && decorations == 0 && clickEvent == null && hoverEvent == null && insertion == null) {
+      return EMPTY;
+    }
+    return new StyleImpl(font, color, decorations, clickEvent, hoverEvent, insertion);
+  }
 
   StyleImpl(
     final @Nullable Key font,
     final @Nullable TextColor color,
-    final TextDecoration.State obfuscated,
-    final TextDecoration.State bold,
-    final TextDecoration.State strikethrough,
-    final TextDecoration.State underlined,
-    final TextDecoration.State italic,
+    final int decorations,
     final @Nullable ClickEvent clickEvent,
     final @Nullable HoverEvent<?> hoverEvent,
     final @Nullable String insertion
   ) {
     this.font = font;
     this.color = color;
-    this.obfuscated = obfuscated;
-    this.bold = bold;
-    this.strikethrough = strikethrough;
-    this.underlined = underlined;
-    this.italic = italic;
+    this.decorations = decorations;
     this.clickEvent = clickEvent;
     this.hoverEvent = hoverEvent;
     this.insertion = insertion;
+    this.presence = (color != null ? HAS_COLOR : 0)
+      | (decorations != 0 ? HAS_DECORATIONS : 0)
+      | (clickEvent != null || hoverEvent != null ? HAS_EVENTS : 0)
+      | (insertion != null ? HAS_INSERTION : 0)
+      | (font != null ? HAS_FONT : 0);
+  }
+
+  static TextDecoration.State unpackDecoration(final int decorations, final TextDecoration decoration) {
+    return STATES[(decorations >>> (decoration.ordinal() * DECORATION_BITS)) & DECORATION_MASK];
+  }
+
+  static int packDecoration(final int decorations, final TextDecoration decoration, final TextDecoration.State state) {
+    final int shift = decoration.ordinal() * DECORATION_BITS;
+    return (decorations & ~(DECORATION_MASK << shift)) | (state.ordinal() << shift);
+  }
+
+  // a mask covering every decoration which is set in the packed value
+  private static int setDecorations(final int decorations) {
+    return ((decorations | (decorations >>> 1)) & DECORATION_LOW_BITS) * DECORATION_MASK;
+  }
+
+  static int mergeDecorationsAlways(final int target, final int source) {
+    return (target & ~setDecorations(source)) | source;
+  }
+
+  static int mergeDecorationsIfAbsent(final int target, final int source) {
+    return target | (source & ~setDecorations(target));
   }
 
   @Override
@@ -85,7 +130,7 @@ final class StyleImpl implements Style {
   @Override
   public @NotNull Style font(final @Nullable Key font) {
     if (Objects.equals(this.font, font)) return this;
-    return new StyleImpl(font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
+    return of(font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -96,7 +141,7 @@ final class StyleImpl implements Style {
   @Override
   public @NotNull Style color(final @Nullable TextColor color) {
     if (Objects.equals(this.color, color)) return this;
-    return new StyleImpl(this.font, color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
+    return of(this.font, color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -109,45 +154,34 @@ final class StyleImpl implements Style {
 
   @Override
   public TextDecoration.@NotNull State decoration(final @NotNull TextDecoration decoration) {
-    if (decoration == TextDecoration.BOLD) {
-      return this.bold;
-    } else if (decoration == TextDecoration.ITALIC) {
-      return this.italic;
-    } else if (decoration == TextDecoration.UNDERLINED) {
-      return this.underlined;
-    } else if (decoration == TextDecoration.STRIKETHROUGH) {
-      return this.strikethrough;
-    } else if (decoration == TextDecoration.OBFUSCATED) {
-      return this.obfuscated;
-    }
-    throw new IllegalArgumentException(String.format("unknown decoration '%s'", decoration));
+    return unpackDecoration(this.decorations, decoration);
   }
 
   @Override
   public @NotNull Style decoration(final @NotNull TextDecoration decoration, final TextDecoration.@NotNull State state) {
     requireNonNull(state, "state");
-    if (decoration == TextDecoration.BOLD) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, state, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if (decoration == TextDecoration.ITALIC) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, state, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if (decoration == TextDecoration.UNDERLINED) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, state, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if (decoration == TextDecoration.STRIKETHROUGH) {
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, state, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
-    } else if (decoration == TextDecoration.OBFUSCATED) {
-      return new StyleImpl(this.font, this.color, state, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
+    final int decorations = packDecoration(this.decorations, decoration, state);
+    if (decorations == this.decorations) return this;
+    return of(this.font, this.color, decorations, this.clickEvent, this.hoverEvent, this.insertion);
+  }
+
+  @Override
+  public @Unmodifiable @NotNull Map<TextDecoration, TextDecoration.State> decorations() {
+    final Map<TextDecoration, TextDecoration.State> decorations = new EnumMap<>(TextDecoration.class);
+    for (int i = 0, length = DECORATIONS.length; i < length; i++) {
+      decorations.put(DECORATIONS[i], STATES[(this.decorations >>> (i * DECORATION_BITS)) & DECORATION_MASK]);
     }
-    throw new IllegalArgumentException(String.format("unknown decoration '%s'", decoration));
+    return decorations;
   }
 
   @Override
   public @NotNull Style decorations(final @NotNull Map<TextDecoration, TextDecoration.State> decorations) {
-    final TextDecoration.State obfuscated = decorations.getOrDefault(TextDecoration.OBFUSCATED, this.obfuscated);
-    final TextDecoration.State bold = decorations.getOrDefault(TextDecoration.BOLD, this.bold);
-    final TextDecoration.State strikethrough = decorations.getOrDefault(TextDecoration.STRIKETHROUGH, this.strikethrough);
-    final TextDecoration.State underlined = decorations.getOrDefault(TextDecoration.UNDERLINED, this.underlined);
-    final TextDecoration.State italic = decorations.getOrDefault(TextDecoration.ITALIC, this.italic);
-    return new StyleImpl(this.font, this.color, obfuscated, bold, strikethrough, underlined, italic, this.clickEvent, this.hoverEvent, this.insertion);
+    int packed = this.decorations;
+    for (final Map.Entry<TextDecoration, TextDecoration.State> entry : decorations.entrySet()) {
+      packed = packDecoration(packed, entry.getKey(), requireNonNull(entry.getValue(), "state"));
+    }
+    if (packed == this.decorations) return this;
+    return of(this.font, this.color, packed, this.clickEvent, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -157,7 +191,7 @@ final class StyleImpl implements Style {
 
   @Override
   public @NotNull Style clickEvent(final @Nullable ClickEvent event) {
-    return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, event, this.hoverEvent, this.insertion);
+    return of(this.font, this.color, this.decorations, event, this.hoverEvent, this.insertion);
   }
 
   @Override
@@ -167,7 +201,7 @@ final class StyleImpl implements Style {
 
   @Override
   public @NotNull Style hoverEvent(final @Nullable HoverEventSource<?> source) {
-    return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, HoverEventSource.unbox(source), this.insertion);
+    return of(this.font, this.color, this.decorations, this.clickEvent, HoverEventSource.unbox(source), this.insertion);
   }
 
   @Override
@@ -178,7 +212,7 @@ final class StyleImpl implements Style {
   @Override
   public @NotNull Style insertion(final @Nullable String insertion) {
     if (Objects.equals(this.insertion, insertion)) return this;
-    return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, insertion);
+    return of(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, insertion);
   }
 
   @Override
@@ -193,9 +227,42 @@ final class StyleImpl implements Style {
       return that;
     }
 
-    final Builder builder = this.toBuilder();
-    builder.merge(that, strategy, merges);
-    return builder.build();
+    if (!(that instanceof StyleImpl)) {
+      final Builder builder = this.toBuilder();
+      builder.merge(that, strategy, merges);
+      return builder.build();
+    }
+
+    final StyleImpl other = (StyleImpl) that;
+    final int mask = Merge.mask(merges) & other.presence;
+    if (mask == 0) return this;
+    final boolean always = strategy == Merge.Strategy.ALWAYS;
+
+    TextColor color = this.color;
+    if ((mask & HAS_COLOR) != 0 && (always || color == null)) color = other.color;
+
+    int decorations = this.decorations;
+    if ((mask & HAS_DECORATIONS) != 0) {
+      decorations = always ? mergeDecorationsAlways(decorations, other.decorations) : mergeDecorationsIfAbsent(decorations, other.decorations);
+    }
+
+    ClickEvent clickEvent = this.clickEvent;
+    HoverEvent<?> hoverEvent = this.hoverEvent;
+    if ((mask & HAS_EVENTS) != 0) {
+      if (other.clickEvent != null && (always || clickEvent == null)) clickEvent = other.clickEvent;
+      if (other.hoverEvent != null && (always || hoverEvent == null)) hoverEvent = other.hoverEvent;
+    }
+
+    String insertion = this.insertion;
+    if ((mask & HAS_INSERTION) != 0 && (always || insertion == null)) insertion = other.insertion;
+
+    Key font = this.font;
+    if ((mask & HAS_FONT) != 0 && (always || font == null)) font = other.font;
+
+    if (color == this.color && decorations == this.decorations && clickEvent == this.clickEvent && hoverEvent == this.hoverEvent && insertion == this.insertion && font == this.font) {
+      return this;
+    }
+    return of(font, color, decorations, clickEvent, hoverEvent, insertion);
   }
 
   @SuppressWarnings("RedundantIfStatement")
@@ -225,11 +292,11 @@ final class StyleImpl implements Style {
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(
       ExaminableProperty.of("color", this.color),
-      ExaminableProperty.of("obfuscated", this.obfuscated),
-      ExaminableProperty.of("bold", this.bold),
-      ExaminableProperty.of("strikethrough", this.strikethrough),
-      ExaminableProperty.of("underlined", this.underlined),
-      ExaminableProperty.of("italic", this.italic),
+      ExaminableProperty.of("obfuscated", this.decoration(TextDecoration.OBFUSCATED)),
+      ExaminableProperty.of("bold", this.decoration(TextDecoration.BOLD)),
+      ExaminableProperty.of("strikethrough", this.decoration(TextDecoration.STRIKETHROUGH)),
+      ExaminableProperty.of("underlined", this.decoration(TextDecoration.UNDERLINED)),
+      ExaminableProperty.of("italic", this.decoration(TextDecoration.ITALIC)),
       ExaminableProperty.of("clickEvent", this.clickEvent),
       ExaminableProperty.of("hoverEvent", this.hoverEvent),
       ExaminableProperty.of("insertion", this.insertion),
@@ -247,12 +314,10 @@ final class StyleImpl implements Style {
     if (this == other) return true;
     if (!(other instanceof StyleImpl)) return false;
     final StyleImpl that = (StyleImpl) other;
+    // cheap early exit when both hashes are already known
+    if (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode) return false;
     return Objects.equals(this.color, that.color)
-      && this.obfuscated == that.obfuscated
-      && this.bold == that.bold
-      && this.strikethrough == that.strikethrough
-      && this.underlined == that.underlined
-      && this.italic == that.italic
+      && this.decorations == that.decorations
       && Objects.equals(this.clickEvent, that.clickEvent)
       && Objects.equals(this.hoverEvent, that.hoverEvent)
       && Objects.equals(this.insertion, that.insertion)
@@ -261,12 +326,17 @@ final class StyleImpl implements Style {
 
   @Override
   public int hashCode() {
+    int result = this.hashCode;
+    if (result == 0) {
+      result = this.computeHashCode();
+      this.hashCode = result;
+    }
+    return result;
+  }
+
+  private int computeHashCode() {
     int result = Objects.hashCode(this.color);
-    result = (31 * result) + this.obfuscated.hashCode();
-    result = (31 * result) + this.bold.hashCode();
-    result = (31 * result) + this.strikethrough.hashCode();
-    result = (31 * result) + this.underlined.hashCode();
-    result = (31 * result) + this.italic.hashCode();
+    result = (31 * result) + this.decorations;
     result = (31 * result) + Objects.hashCode(this.clickEvent);
     result = (31 * result) + Objects.hashCode(this.hoverEvent);
     result = (31 * result) + Objects.hashCode(this.insertion);
@@ -277,11 +347,7 @@ final class StyleImpl implements Style {
   static final class BuilderImpl implements Builder {
     @Nullable Key font;
     @Nullable TextColor color;
-    TextDecoration.State obfuscated = TextDecoration.State.NOT_SET;
-    TextDecoration.State bold = TextDecoration.State.NOT_SET;
-    TextDecoration.State strikethrough = TextDecoration.State.NOT_SET;
-    TextDecoration.State underlined = TextDecoration.State.NOT_SET;
-    TextDecoration.State italic = TextDecoration.State.NOT_SET;
+    int decorations;
     @Nullable ClickEvent clickEvent;
     @Nullable HoverEvent<?> hoverEvent;
     @Nullable String insertion;
@@ -291,11 +357,7 @@ final class StyleImpl implements Style {
 
     BuilderImpl(final @NotNull StyleImpl style) {
       this.color = style.color;
-      this.obfuscated = style.obfuscated;
-      this.bold = style.bold;
-      this.strikethrough = style.strikethrough;
-      this.underlined = style.underlined;
-      this.italic = style.italic;
+      this.decorations = style.decorations;
       this.clickEvent = style.clickEvent;
       this.hoverEvent = style.hoverEvent;
       this.insertion = style.insertion;
@@ -325,52 +387,15 @@ final class StyleImpl implements Style {
     @Override
     public @NotNull Builder decoration(final @NotNull TextDecoration decoration, final TextDecoration.@NotNull State state) {
       requireNonNull(state, "state");
-      if (decoration == TextDecoration.BOLD) {
-        this.bold = state;
-      } else if (decoration == TextDecoration.ITALIC) {
-        this.italic = state;
-      } else if (decoration == TextDecoration.UNDERLINED) {
-        this.underlined = state;
-      } else if (decoration == TextDecoration.STRIKETHROUGH) {
-        this.strikethrough = state;
-      } else if (decoration == TextDecoration.OBFUSCATED) {
-        this.obfuscated = state;
-      } else {
-        throw new IllegalArgumentException(String.format("unknown decoration '%s'", decoration));
-      }
+      this.decorations = packDecoration(this.decorations, decoration, state);
       return this;
     }
 
     // todo(kashike): promote to public api?
     @NotNull Builder decorationIfAbsent(final @NotNull TextDecoration decoration, final TextDecoration.@NotNull State state) {
       requireNonNull(state, "state");
-      if (decoration == TextDecoration.BOLD) {
-        if (this.bold == TextDecoration.State.NOT_SET) {
-          this.bold = state;
-        }
-        return this;
-      } else if (decoration == TextDecoration.ITALIC) {
-        if (this.italic == TextDecoration.State.NOT_SET) {
-          this.italic = state;
-        }
-        return this;
-      } else if (decoration == TextDecoration.UNDERLINED) {
-        if (this.underlined == TextDecoration.State.NOT_SET) {
-          this.underlined = state;
-        }
-        return this;
-      } else if (decoration == TextDecoration.STRIKETHROUGH) {
-        if (this.strikethrough == TextDecoration.State.NOT_SET) {
-          this.strikethrough = state;
-        }
-        return this;
-      } else if (decoration == TextDecoration.OBFUSCATED) {
-        if (this.obfuscated == TextDecoration.State.NOT_SET) {
-          this.obfuscated = state;
-        }
-        return this;
-      }
-      throw new IllegalArgumentException(String.format("unknown decoration '%s'", decoration));
+      this.decorations = mergeDecorationsIfAbsent(this.decorations, packDecoration(0, decoration, state));
+      return this;
     }
 
     @Override
@@ -409,10 +434,14 @@ final class StyleImpl implements Style {
       }
 
       if (merges.contains(Merge.DECORATIONS)) {
-        for (int i = 0, length = DECORATIONS.length; i < length; i++) {
-          final TextDecoration decoration = DECORATIONS[i];
-          final TextDecoration.State state = that.decoration(decoration);
-          if (state != TextDecoration.State.NOT_SET) merger.mergeDecoration(this, decoration, state);
+        if (that instanceof StyleImpl) {
+          merger.mergeDecorations(this, ((StyleImpl) that).decorations);
+        } else {
+          for (int i = 0, length = DECORATIONS.length; i < length; i++) {
+            final TextDecoration decoration = DECORATIONS[i];
+            final TextDecoration.State state = that.decoration(decoration);
+            if (state != TextDecoration.State.NOT_SET) merger.mergeDecoration(this, decoration, state);
+          }
         }
       }
 
@@ -453,16 +482,12 @@ final class StyleImpl implements Style {
       if (this.isEmpty()) {
         return EMPTY;
       }
-      return new StyleImpl(this.font, this.color, this.obfuscated, this.bold, this.strikethrough, this.underlined, this.italic, this.clickEvent, this.hoverEvent, this.insertion);
+      return new StyleImpl(this.font, this.color, this.decorations, this.clickEvent, this.hoverEvent, this.insertion);
     }
 
     private boolean isEmpty() {
       return this.color == null
-        && this.obfuscated == TextDecoration.State.NOT_SET
-        && this.bold == TextDecoration.State.NOT_SET
-        && this.strikethrough == TextDecoration.State.NOT_SET
-        && this.underlined == TextDecoration.State.NOT_SET
-        && this.italic == TextDecoration.State.NOT_SET
+        && this.decorations == 0
         && this.clickEvent == null
         && this.hoverEvent == null
         && this.insertion == null
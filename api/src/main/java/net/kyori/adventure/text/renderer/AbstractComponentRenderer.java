@@ -25,9 +25,9 @@ package net.kyori.adventure.text.renderer;
 
 import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentVisitor;
 import net.kyori.adventure.text.EntityNBTComponent;
 import net.kyori.adventure.text.KeybindComponent;
-import net.kyori.adventure.text.NBTComponent;
 import net.kyori.adventure.text.ScoreComponent;
 import net.kyori.adventure.text.SelectorComponent;
 import net.kyori.adventure.text.StorageNBTComponent;
@@ -42,28 +42,11 @@ import org.jetbrains.annotations.NotNull;
  * @since 4.0.0
  */
 public abstract class AbstractComponentRenderer<C> implements ComponentRenderer<C> {
+  private final ComponentVisitor<Component, C> dispatcher = new Dispatcher();
+
   @Override
   public @NotNull Component render(final @NotNull Component component, final @NotNull C context) {
-    if (component instanceof TextComponent) {
-      return this.renderText((TextComponent) component, context);
-    } else if (component instanceof TranslatableComponent) {
-      return this.renderTranslatable((TranslatableComponent) component, context);
-    } else if (component instanceof KeybindComponent) {
-      return this.renderKeybind((KeybindComponent) component, context);
-    } else if (component instanceof ScoreComponent) {
-      return this.renderScore((ScoreComponent) component, context);
-    } else if (component instanceof SelectorComponent) {
-      return this.renderSelector((SelectorComponent) component, context);
-    } else if (component instanceof NBTComponent<?, ?>) {
-      if (component instanceof BlockNBTComponent) {
-        return this.renderBlockNbt((BlockNBTComponent) component, context);
-      } else if (component instanceof EntityNBTComponent) {
-        return this.renderEntityNbt((EntityNBTComponent) component, context);
-      } else if (component instanceof StorageNBTComponent) {
-        return this.renderStorageNbt((StorageNBTComponent) component, context);
-      }
-    }
-    return component;
+    return component.accept(this.dispatcher, context);
   }
 
   /**
@@ -137,4 +120,52 @@ public abstract class AbstractComponentRenderer<C> implements ComponentRenderer<
    * @return the rendered component
    */
   protected abstract @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull C context);
+
+  // routes each component type to its render method, leaving unknown types unchanged
+  private final class Dispatcher implements ComponentVisitor<Component, C> {
+    @Override
+    public Component visitText(final @NotNull TextComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderText(component, context);
+    }
+
+    @Override
+    public Component visitTranslatable(final @NotNull TranslatableComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderTranslatable(component, context);
+    }
+
+    @Override
+    public Component visitKeybind(final @NotNull KeybindComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderKeybind(component, context);
+    }
+
+    @Override
+    public Component visitScore(final @NotNull ScoreComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderScore(component, context);
+    }
+
+    @Override
+    public Component visitSelector(final @NotNull SelectorComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderSelector(component, context);
+    }
+
+    @Override
+    public Component visitBlockNbt(final @NotNull BlockNBTComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderBlockNbt(component, context);
+    }
+
+    @Override
+    public Component visitEntityNbt(final @NotNull EntityNBTComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderEntityNbt(component, context);
+    }
+
+    @Override
+    public Component visitStorageNbt(final @NotNull StorageNBTComponent component, final C context) {
+      return AbstractComponentRenderer.this.renderStorageNbt(component, context);
+    }
+
+    @Override
+    public Component visitUnknown(final @NotNull Component component, final C context) {
+      return component;
+    }
+  }
 }
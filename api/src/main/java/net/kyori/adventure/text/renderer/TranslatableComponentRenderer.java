@@ -23,7 +23,6 @@
  */
 package net.kyori.adventure.text.renderer;
 
-import java.text.AttributedCharacterIterator;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +43,7 @@ import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.translation.TranslationTemplate;
 import net.kyori.adventure.translation.Translator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -73,6 +73,38 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
       protected @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale context) {
         return source.translate(key, context);
       }
+
+      @Override
+      protected @Nullable TranslationTemplate translateTemplate(final @NotNull String key, final @NotNull Locale context) {
+        return source.translateTemplate(key, context);
+      }
+
+      @Override
+      public @NotNull Component render(final @NotNull Component component, final @NotNull Locale context) {
+        // no render hooks are overridden here, so a subtree without translatables renders to itself
+        if (!component.containsTranslatable()) return component;
+        return super.render(component, context);
+      }
+
+      @Override
+      @NotNull Component renderUntranslated(final @NotNull TranslatableComponent component, final @NotNull Locale context) {
+        final List<Component> args = this.renderAll(component.args(), context);
+        final List<Component> children = this.renderAll(component.children(), context);
+        final @Nullable HoverEvent<?> hoverEvent = component.hoverEvent();
+        final @Nullable HoverEvent<?> renderedHoverEvent = hoverEvent == null ? null : hoverEvent.withRenderedValue(this, context);
+        if (args == component.args() && children == component.children() && renderedHoverEvent == hoverEvent) {
+          // nothing changed, keep the original instance
+          return component;
+        }
+
+        return Component.translatable()
+          .key(component.key())
+          .args(args)
+          .style(component.style())
+          .hoverEvent(renderedHoverEvent)
+          .append(children)
+          .build();
+      }
     };
   }
 
@@ -85,6 +117,23 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
    */
   protected abstract @Nullable MessageFormat translate(final @NotNull String key, final @NotNull C context);
 
+  /**
+   * Gets a translation template from a key and context.
+   *
+   * <p>By default this compiles the result of {@link #translate(String, Object)} using {@link TranslationTemplate#compile(MessageFormat)},
+   * which only compiles each format once while it is in use.</p>
+   *
+   * @param key a translation key
+   * @param context a context
+   * @return a translation template or {@code null} to skip translation
+   * @since 4.10.0
+   */
+  protected @Nullable TranslationTemplate translateTemplate(final @NotNull String key, final @NotNull C context) {
+    final @Nullable MessageFormat format = this.translate(key, context);
+    if (format == null) return null;
+    return TranslationTemplate.compile(format);
+  }
+
   @Override
   protected @NotNull Component renderBlockNbt(final @NotNull BlockNBTComponent component, final @NotNull C context) {
     final BlockNBTComponent.Builder builder = nbt(Component.blockNBT(), component)
@@ -142,21 +191,9 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
   @Override
   protected @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull C context) {
-    final @Nullable MessageFormat format = this.translate(component.key(), context);
-    if (format == null) {
-      // we don't have a translation for this component, but the arguments or children
-      // of this component might need additional rendering
-
-      final TranslatableComponent.Builder builder = Component.translatable()
-        .key(component.key());
-      if (!component.args().isEmpty()) {
-        final List<Component> args = new ArrayList<>(component.args());
-        for (int i = 0, size = args.size(); i < size; i++) {
-          args.set(i, this.render(args.get(i), context));
-        }
-        builder.args(args);
-      }
-      return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
+    final @Nullable TranslationTemplate template = this.translateTemplate(component.key(), context);
+    if (template == null) {
+      return this.renderUntranslated(component, context);
     }
 
     final List<Component> args = component.args();
@@ -166,28 +203,79 @@ public abstract class TranslatableComponentRenderer<C> extends AbstractComponent
 
     // no arguments makes this render very simple
     if (args.isEmpty()) {
-      builder.content(format.format(null, new StringBuffer(), null).toString());
+      builder.content(literalText(template));
       return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
     }
 
-    final Object[] nulls = new Object[args.size()];
-    final StringBuffer sb = format.format(nulls, new StringBuffer(), null);
-    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
-
-    while (it.getIndex() < it.getEndIndex()) {
-      final int end = it.getRunLimit();
-      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
-      if (index != null) {
+    // consecutive literals, including slots without a matching argument, are joined into one text component
+    StringBuilder text = null;
+    for (int slot = 0, slots = template.slots(); slot <= slots; slot++) {
+      final String literal = template.literal(slot);
+      if (!literal.isEmpty()) {
+        if (text == null) text = new StringBuilder();
+        text.append(literal);
+      }
+      if (slot == slots) break;
+      final int index = template.argument(slot);
+      if (index < args.size()) {
+        if (text != null) {
+          builder.append(Component.text(text.toString()));
+          text = null;
+        }
         builder.append(this.render(args.get(index), context));
       } else {
-        builder.append(Component.text(sb.substring(it.getIndex(), end)));
+        if (text == null) text = new StringBuilder();
+        text.append('{').append(index).append('}');
       }
-      it.setIndex(end);
+    }
+    if (text != null) {
+      builder.append(Component.text(text.toString()));
     }
 
     return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
   }
 
+  // we don't have a translation for this component, but the arguments or children of this component might need additional rendering
+  @NotNull Component renderUntranslated(final @NotNull TranslatableComponent component, final @NotNull C context) {
+    final TranslatableComponent.Builder builder = Component.translatable()
+      .key(component.key());
+    if (!component.args().isEmpty()) {
+      final List<Component> args = new ArrayList<>(component.args());
+      for (int i = 0, size = args.size(); i < size; i++) {
+        args.set(i, this.render(args.get(i), context));
+      }
+      builder.args(args);
+    }
+    return this.mergeStyleAndOptionallyDeepRender(component, builder, context);
+  }
+
+  // the text of a template rendered without any arguments
+  private static String literalText(final TranslationTemplate template) {
+    final int slots = template.slots();
+    if (slots == 0) return template.literal(0);
+    final StringBuilder text = new StringBuilder(template.literal(0));
+    for (int slot = 0; slot < slots; slot++) {
+      text.append('{').append(template.argument(slot)).append('}').append(template.literal(slot + 1));
+    }
+    return text.toString();
+  }
+
+  // renders each component, returning the original list if every component rendered to itself
+  List<Component> renderAll(final List<Component> components, final C context) {
+    List<Component> rendered = null;
+    for (int i = 0, size = components.size(); i < size; i++) {
+      final Component component = components.get(i);
+      final Component result = this.render(component, context);
+      if (rendered == null && result != component) {
+        rendered = new ArrayList<>(components);
+      }
+      if (rendered != null) {
+        rendered.set(i, result);
+      }
+    }
+    return rendered == null ? components : rendered;
+  }
+
   protected <O extends BuildableComponent<O, B>, B extends ComponentBuilder<O, B>> O mergeStyleAndOptionallyDeepRender(final Component component, final B builder, final C context) {
     this.mergeStyle(component, builder, context);
     return this.optionallyRenderChildrenAppendAndBuild(component.children(), builder, context);
@@ -0,0 +1,72 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Component} serializer and deserializer which serializes to text.
+ *
+ * @param <I> the input component type
+ * @param <O> the output component type
+ * @since 4.10.0
+ */
+public interface StringComponentSerializer<I extends Component, O extends Component> extends ComponentSerializer<I, O, String> {
+  /**
+   * Serializes a component, appending the output to {@code output}.
+   *
+   * <p>Implementations write directly to {@code output} where they can, avoiding an intermediate {@link String}.
+   * By default, the result of {@link #serialize(Component)} is appended.</p>
+   *
+   * @param component the component
+   * @param output the output to append to
+   * @throws IOException if appending to {@code output} fails
+   * @since 4.10.0
+   */
+  default void serialize(final @NotNull I component, final @NotNull Appendable output) throws IOException {
+    output.append(this.serialize(component));
+  }
+
+  /**
+   * Serializes a component, writing the output to {@code output} encoded as UTF-8.
+   *
+   * <p>The stream is flushed, but not closed.</p>
+   *
+   * @param component the component
+   * @param output the stream to write to
+   * @throws IOException if writing to {@code output} fails
+   * @since 4.10.0
+   */
+  default void serializeUtf8(final @NotNull I component, final @NotNull OutputStream output) throws IOException {
+    final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    this.serialize(component, writer);
+    writer.flush();
+  }
+}
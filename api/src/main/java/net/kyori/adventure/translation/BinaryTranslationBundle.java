@@ -0,0 +1,133 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.util.UTF8ResourceBundleControl;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A translation source backed by a precompiled binary bundle, read through a memory-mapped file.
+ *
+ * <p>Bundles are produced ahead of time by {@link #compile(Map, Path)} or {@link #compile(Path, String, boolean, Path)},
+ * and hold every key, locale and {@link TranslationTemplate template} in a compact form. Opening a bundle
+ * only reads its locale table, translations are decoded on first use and then kept.</p>
+ *
+ * <p>Locales fall back in the same way as a {@link TranslationRegistry}: the exact locale,
+ * then the locale without a country, then the {@link #defaultLocale(Locale) default locale},
+ * and finally the global default locale.</p>
+ *
+ * @since 4.10.0
+ */
+@ApiStatus.NonExtendable
+public interface BinaryTranslationBundle extends Translator {
+  /**
+   * Opens a compiled bundle.
+   *
+   * <p>The file is mapped into memory, and must not be modified while the bundle is in use.
+   * The mapping is released once the bundle is no longer reachable.</p>
+   *
+   * @param name the name of the translation source
+   * @param path the path to the compiled bundle
+   * @return a bundle
+   * @throws IOException if the file cannot be read, or is not a compiled bundle
+   * @since 4.10.0
+   */
+  static @NotNull BinaryTranslationBundle open(final @NotNull Key name, final @NotNull Path path) throws IOException {
+    return BinaryTranslationBundleImpl.open(requireNonNull(name, "name"), requireNonNull(path, "path"));
+  }
+
+  /**
+   * Compiles translation patterns into a bundle.
+   *
+   * @param patterns the message format patterns, by locale and then by key
+   * @param output the path to write the compiled bundle to
+   * @throws IOException if the bundle cannot be written
+   * @throws IllegalArgumentException if a pattern is invalid
+   * @since 4.10.0
+   */
+  static void compile(final @NotNull Map<Locale, ? extends Map<String, String>> patterns, final @NotNull Path output) throws IOException {
+    BinaryTranslationBundleCompiler.compile(requireNonNull(patterns, "patterns"), requireNonNull(output, "output"));
+  }
+
+  /**
+   * Compiles every resource bundle of translations in a directory into a bundle.
+   *
+   * <p>Bundles are found by their file names, {@code <baseName>_<locale>.properties}, and loaded using
+   * {@link UTF8ResourceBundleControl}, as in {@link TranslationRegistry#registerAllLazily(Path, String, boolean)}.</p>
+   *
+   * @param directory the directory containing the resource bundles
+   * @param baseName the base name of the resource bundles
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @param output the path to write the compiled bundle to
+   * @throws IOException if a resource bundle cannot be read, or the bundle cannot be written
+   * @throws IllegalArgumentException if a pattern is invalid
+   * @since 4.10.0
+   */
+  static void compile(final @NotNull Path directory, final @NotNull String baseName, final boolean escapeSingleQuotes, final @NotNull Path output) throws IOException {
+    BinaryTranslationBundleCompiler.compile(requireNonNull(directory, "directory"), requireNonNull(baseName, "baseName"), escapeSingleQuotes, requireNonNull(output, "output"));
+  }
+
+  /**
+   * Gets the locales this bundle has translations for.
+   *
+   * @return the locales
+   * @since 4.10.0
+   */
+  @NotNull @Unmodifiable Set<Locale> locales();
+
+  /**
+   * Gets the number of keys in this bundle.
+   *
+   * @return the number of keys
+   * @since 4.10.0
+   */
+  int size();
+
+  /**
+   * Checks if this bundle has a translation for a key, in any locale.
+   *
+   * @param key a translation key
+   * @return {@code true} if the key has a translation
+   * @since 4.10.0
+   */
+  boolean contains(final @NotNull String key);
+
+  /**
+   * Sets the default locale used by this bundle.
+   *
+   * @param locale the locale to use a default
+   * @since 4.10.0
+   */
+  void defaultLocale(final @NotNull Locale locale);
+}
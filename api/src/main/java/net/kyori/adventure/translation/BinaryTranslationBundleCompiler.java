@@ -0,0 +1,187 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import net.kyori.adventure.util.UTF8ResourceBundleControl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes compiled translation bundles.
+ *
+ * <p>All values are big-endian ints, and all offsets are from the start of the file. The layout is:</p>
+ * <ol>
+ *   <li>the magic number and format version</li>
+ *   <li>the number of locales, followed by the offset of each locale's name</li>
+ *   <li>the number of keys, followed by the key index: a hash and key offset for every key, ordered by hash and then key</li>
+ *   <li>the translation table: for every key in index order, the offset of the translation in each locale, or {@link #ABSENT}</li>
+ *   <li>the pool, holding strings as a length and UTF-8 bytes, and translations as the offset of their pattern,
+ *   their number of slots, the offset of each literal and the argument index of each slot</li>
+ * </ol>
+ */
+final class BinaryTranslationBundleCompiler {
+  static final int MAGIC = 0x41445654; // ADVT
+  static final int VERSION = 1;
+  static final int ABSENT = -1;
+  static final Comparator<String> KEY_ORDER = Comparator.comparingInt(String::hashCode).thenComparing(Comparator.naturalOrder());
+
+  private BinaryTranslationBundleCompiler() {
+  }
+
+  static void compile(final @NotNull Map<Locale, ? extends Map<String, String>> patterns, final @NotNull Path output) throws IOException {
+    final List<Locale> locales = new ArrayList<>(patterns.keySet());
+    locales.sort(Comparator.comparing(Locale::toString)); // for a stable output
+    final Set<String> allKeys = new HashSet<>();
+    for (final Map<String, String> translations : patterns.values()) {
+      allKeys.addAll(translations.keySet());
+    }
+    final List<String> keys = new ArrayList<>(allKeys);
+    keys.sort(KEY_ORDER);
+
+    final int localeCount = locales.size();
+    final int keyCount = keys.size();
+    final int headerSize = 4 + 4 + 4 + (4 * localeCount) + 4 + (8 * keyCount) + (4 * keyCount * localeCount);
+    final Pool pool = new Pool(headerSize);
+
+    final int[] localeOffsets = new int[localeCount];
+    for (int l = 0; l < localeCount; l++) {
+      localeOffsets[l] = pool.string(locales.get(l).toString());
+    }
+    final int[] keyOffsets = new int[keyCount];
+    final int[] table = new int[keyCount * localeCount];
+    for (int k = 0; k < keyCount; k++) {
+      final String key = keys.get(k);
+      keyOffsets[k] = pool.string(key);
+      for (int l = 0; l < localeCount; l++) {
+        final Locale locale = locales.get(l);
+        final @Nullable String pattern = patterns.get(locale).get(key);
+        table[(k * localeCount) + l] = pattern == null ? ABSENT : pool.translation(pattern, TranslationTemplate.compile(new MessageFormat(pattern, locale)));
+      }
+    }
+
+    try(final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(localeCount);
+      for (final int offset : localeOffsets) {
+        out.writeInt(offset);
+      }
+      out.writeInt(keyCount);
+      for (int k = 0; k < keyCount; k++) {
+        out.writeInt(keys.get(k).hashCode());
+        out.writeInt(keyOffsets[k]);
+      }
+      for (final int offset : table) {
+        out.writeInt(offset);
+      }
+      pool.bytes.writeTo(out);
+    }
+  }
+
+  static void compile(final @NotNull Path directory, final @NotNull String baseName, final boolean escapeSingleQuotes, final @NotNull Path output) throws IOException {
+    final Map<Locale, Map<String, String>> patterns = new HashMap<>();
+    try(final URLClassLoader loader = TranslationLoading.directoryLoader(directory)) {
+      try {
+        for (final Locale locale : TranslationLoading.locales(directory, baseName)) {
+          final ResourceBundle bundle = ResourceBundle.getBundle(baseName, locale, loader, UTF8ResourceBundleControl.get());
+          final Map<String, String> translations = new HashMap<>();
+          for (final String key : bundle.keySet()) {
+            final String pattern = bundle.getString(key);
+            translations.put(key, escapeSingleQuotes ? TranslationRegistry.SINGLE_QUOTE_PATTERN.matcher(pattern).replaceAll("''") : pattern);
+          }
+          patterns.put(locale, translations);
+        }
+      } finally {
+        ResourceBundle.clearCache(loader);
+      }
+    }
+    compile(patterns, output);
+  }
+
+  static final class Pool {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(this.bytes);
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final int base;
+
+    Pool(final int base) {
+      this.base = base;
+    }
+
+    int string(final String string) throws IOException {
+      final @Nullable Integer existing = this.strings.get(string);
+      if (existing != null) return existing;
+      final int offset = this.position();
+      final byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+      this.out.writeInt(encoded.length);
+      this.out.write(encoded);
+      this.strings.put(string, offset);
+      return offset;
+    }
+
+    int translation(final String pattern, final TranslationTemplate template) throws IOException {
+      final int slots = template.slots();
+      final int patternOffset = this.string(pattern);
+      final int[] literalOffsets = new int[slots + 1];
+      for (int i = 0; i <= slots; i++) {
+        literalOffsets[i] = this.string(template.literal(i));
+      }
+
+      final int offset = this.position();
+      this.out.writeInt(patternOffset);
+      this.out.writeInt(slots);
+      for (final int literalOffset : literalOffsets) {
+        this.out.writeInt(literalOffset);
+      }
+      for (int i = 0; i < slots; i++) {
+        this.out.writeInt(template.argument(i));
+      }
+      return offset;
+    }
+
+    private int position() throws IOException {
+      final long position = (long) this.base + this.bytes.size();
+      if (position > Integer.MAX_VALUE) throw new IOException("Compiled bundle is too large");
+      return (int) position;
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+import net.kyori.adventure.key.Key;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class BinaryTranslationBundleImpl implements BinaryTranslationBundle, Examinable {
+  private final Key name;
+  private final ByteBuffer buffer; // only ever read with absolute gets, which do not touch the buffer's position
+  private final Locale[] locales;
+  private final Map<Locale, Integer> columns;
+  private final int keyCount;
+  private final int indexOffset;
+  private final int tableOffset;
+  private final AtomicReferenceArray<TranslationTemplate> templates;
+  private volatile Locale defaultLocale = Locale.US; // en_us
+  // the columns to try for a locale, replaced when the default locale changes
+  private volatile Map<Locale, int[]> fallbacks = new ConcurrentHashMap<>();
+
+  private BinaryTranslationBundleImpl(final Key name, final ByteBuffer buffer) throws IOException {
+    this.name = name;
+    this.buffer = buffer;
+    if (buffer.capacity() < 16 || buffer.getInt(0) != BinaryTranslationBundleCompiler.MAGIC) {
+      throw new IOException("Not a compiled translation bundle");
+    }
+    final int version = buffer.getInt(4);
+    if (version != BinaryTranslationBundleCompiler.VERSION) {
+      throw new IOException(String.format("Unsupported compiled translation bundle version %d", version));
+    }
+
+    final int localeCount = buffer.getInt(8);
+    this.locales = new Locale[localeCount];
+    this.columns = new HashMap<>(localeCount * 2);
+    for (int l = 0; l < localeCount; l++) {
+      final Locale locale = Translator.parseLocale(this.string(buffer.getInt(12 + (4 * l))));
+      this.locales[l] = locale;
+      this.columns.put(locale, l);
+    }
+    this.keyCount = buffer.getInt(12 + (4 * localeCount));
+    this.indexOffset = 16 + (4 * localeCount);
+    this.tableOffset = this.indexOffset + (8 * this.keyCount);
+    this.templates = new AtomicReferenceArray<>(this.keyCount * localeCount);
+  }
+
+  static @NotNull BinaryTranslationBundle open(final @NotNull Key name, final @NotNull Path path) throws IOException {
+    try(final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE) throw new IOException("Compiled translation bundle is too large");
+      return new BinaryTranslationBundleImpl(name, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+    }
+  }
+
+  @Override
+  public @NotNull Key name() {
+    return this.name;
+  }
+
+  @Override
+  public @NotNull Set<Locale> locales() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(this.locales)));
+  }
+
+  @Override
+  public int size() {
+    return this.keyCount;
+  }
+
+  @Override
+  public boolean contains(final @NotNull String key) {
+    return this.row(key) >= 0;
+  }
+
+  @Override
+  public void defaultLocale(final @NotNull Locale locale) {
+    this.defaultLocale = requireNonNull(locale, "locale");
+    this.fallbacks = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+    final TranslationTemplate template = this.translateTemplate(key, locale);
+    if (template == null) return null;
+    return template.format();
+  }
+
+  @Override
+  public @Nullable TranslationTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale) {
+    final int row = this.row(requireNonNull(key, "key"));
+    if (row < 0) return null;
+    for (final int column : this.fallbacks(requireNonNull(locale, "locale"))) {
+      final TranslationTemplate template = this.template(row, column);
+      if (template != null) return template;
+    }
+    // try global default locale
+    final Integer global = this.columns.get(TranslationLocales.global());
+    return global == null ? null : this.template(row, global);
+  }
+
+  private int[] fallbacks(final Locale locale) {
+    final Map<Locale, int[]> fallbacks = this.fallbacks;
+    int[] columns = fallbacks.get(locale);
+    if (columns == null) {
+      // exact locale, then without country, then the bundle default
+      columns = Stream.of(locale, new Locale(locale.getLanguage()), this.defaultLocale)
+        .map(this.columns::get)
+        .filter(Objects::nonNull)
+        .distinct()
+        .mapToInt(Integer::intValue)
+        .toArray();
+      fallbacks.put(locale, columns);
+    }
+    return columns;
+  }
+
+  // the row of a key in the index, found by its hash
+  private int row(final String key) {
+    final int hash = key.hashCode();
+    int low = 0;
+    int high = this.keyCount - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int found = this.buffer.getInt(this.indexOffset + (8 * middle));
+      if (found < hash) {
+        low = middle + 1;
+      } else if (found > hash) {
+        high = middle - 1;
+      } else {
+        // keys with the same hash are adjacent
+        int first = middle;
+        while (first > 0 && this.buffer.getInt(this.indexOffset + (8 * (first - 1))) == hash) {
+          first--;
+        }
+        final byte[] encoded = key.getBytes(StandardCharsets.UTF_8);
+        for (int row = first; row < this.keyCount && this.buffer.getInt(this.indexOffset + (8 * row)) == hash; row++) {
+          if (this.stringEquals(this.buffer.getInt(this.indexOffset + (8 * row) + 4), encoded)) return row;
+        }
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  private @Nullable TranslationTemplate template(final int row, final int column) {
+    final int cell = (row * this.locales.length) + column;
+    final TranslationTemplate cached = this.templates.get(cell);
+    if (cached != null) return cached;
+    final int offset = this.buffer.getInt(this.tableOffset + (4 * cell));
+    if (offset == BinaryTranslationBundleCompiler.ABSENT) return null;
+
+    final String pattern = this.string(this.buffer.getInt(offset));
+    final int slots = this.buffer.getInt(offset + 4);
+    final String[] literals = new String[slots + 1];
+    for (int i = 0; i <= slots; i++) {
+      literals[i] = this.string(this.buffer.getInt(offset + 8 + (4 * i)));
+    }
+    final int[] arguments = new int[slots];
+    final int argumentsOffset = offset + 8 + (4 * (slots + 1));
+    for (int i = 0; i < slots; i++) {
+      arguments[i] = this.buffer.getInt(argumentsOffset + (4 * i));
+    }
+    final TranslationTemplate template = TranslationTemplateImpl.precompiled(pattern, this.locales[column], literals, arguments);
+    // another thread may have decoded the same translation, keep whichever got there first
+    return this.templates.compareAndSet(cell, null, template) ? template : this.templates.get(cell);
+  }
+
+  private String string(final int offset) {
+    final int length = this.buffer.getInt(offset);
+    final byte[] bytes = new byte[length];
+    final ByteBuffer view = this.buffer.duplicate();
+    view.position(offset + 4);
+    view.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private boolean stringEquals(final int offset, final byte[] encoded) {
+    if (this.buffer.getInt(offset) != encoded.length) return false;
+    for (int i = 0; i < encoded.length; i++) {
+      if (this.buffer.get(offset + 4 + i) != encoded[i]) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("name", this.name),
+      ExaminableProperty.of("locales", this.locales),
+      ExaminableProperty.of("size", this.keyCount)
+    );
+  }
+
+  @Override
+  public String toString() {
+    return this.examine(StringExaminer.simpleEscaping());
+  }
+}
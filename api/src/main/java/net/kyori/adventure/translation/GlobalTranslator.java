@@ -27,6 +27,7 @@ import java.util.Locale;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
 import net.kyori.examination.Examinable;
 import org.jetbrains.annotations.NotNull;
@@ -61,6 +62,20 @@ public interface GlobalTranslator extends Translator, Examinable {
     return GlobalTranslatorImpl.INSTANCE.renderer;
   }
 
+  /**
+   * Gets a renderer which uses the global source for translating, and remembers what it rendered.
+   *
+   * <p>Rendered components are cached per locale, for a bounded number of components which are held weakly.
+   * The cache is dropped whenever the sources change, and is only used while every source notifies of its changes,
+   * see {@link #sourceChanged(Translator)}.</p>
+   *
+   * @return a caching renderer
+   * @since 4.10.0
+   */
+  static @NotNull ComponentRenderer<Locale> cachingRenderer() {
+    return GlobalTranslatorImpl.INSTANCE.cachingRenderer;
+  }
+
   /**
    * Renders a component using the {@link #renderer() global renderer}.
    *
@@ -101,4 +116,20 @@ public interface GlobalTranslator extends Translator, Examinable {
    * @since 4.0.0
    */
   boolean removeSource(final @NotNull Translator source);
+
+  /**
+   * Notifies this translator that the translations provided by a source have changed.
+   *
+   * <p>Missing translations and rendered components are only cached while every source is a {@link TranslationRegistry registry}
+   * created through {@link TranslationRegistry#create(net.kyori.adventure.key.Key)}, as those notify this translator of every change themselves.
+   * While any other source is added nothing but the source which last answered for each key is remembered,
+   * so lookups never return stale results. Calling this method is then only needed to drop that memory.</p>
+   *
+   * <p>By default this does nothing.</p>
+   *
+   * @param source the source which changed
+   * @since 4.10.0
+   */
+  default void sourceChanged(final @NotNull Translator source) {
+  }
 }
@@ -26,10 +26,14 @@ package net.kyori.adventure.translation;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
 import net.kyori.examination.ExaminableProperty;
 import org.jetbrains.annotations.NotNull;
@@ -41,7 +45,12 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   private static final Key NAME = Key.key("adventure", "global");
   static final GlobalTranslatorImpl INSTANCE = new GlobalTranslatorImpl();
   final TranslatableComponentRenderer<Locale> renderer = TranslatableComponentRenderer.usingTranslationSource(this);
+  final ComponentRenderer<Locale> cachingRenderer = this::renderCached;
+  private static final int MAX_MISSES = 4096;
+  private static final int MAX_RENDERS = 4096;
   private final Set<Translator> sources = Collections.newSetFromMap(new ConcurrentHashMap<>());
+  // replaced, rather than cleared, whenever the sources change so that in-flight lookups can't repopulate it
+  private volatile Caches caches = new Caches(true);
 
   private GlobalTranslatorImpl() {
   }
@@ -60,26 +69,114 @@ final class GlobalTranslatorImpl implements GlobalTranslator {
   public boolean addSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
     if (source == this) throw new IllegalArgumentException("GlobalTranslationSource");
-    return this.sources.add(source);
+    if (!this.sources.add(source)) return false;
+    if (source instanceof TranslationRegistryImpl) ((TranslationRegistryImpl) source).global(true);
+    this.caches = new Caches(this.notifying());
+    return true;
   }
 
   @Override
   public boolean removeSource(final @NotNull Translator source) {
     requireNonNull(source, "source");
-    return this.sources.remove(source);
+    if (!this.sources.remove(source)) return false;
+    if (source instanceof TranslationRegistryImpl) ((TranslationRegistryImpl) source).global(false);
+    this.caches = new Caches(this.notifying());
+    return true;
+  }
+
+  // whether every source tells us about its changes, which is what makes caching misses and renders safe
+  private boolean notifying() {
+    for (final Translator source : this.sources) {
+      if (!(source instanceof TranslationRegistryImpl)) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void sourceChanged(final @NotNull Translator source) {
+    requireNonNull(source, "source");
+    // not checked against the sources, a registry's hash code changes along with its translations
+    this.caches = new Caches(this.caches.notifying);
   }
 
   @Override
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+    return this.lookup(key, locale, Translator::translate);
+  }
+
+  @Override
+  public @Nullable TranslationTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale) {
+    return this.lookup(key, locale, Translator::translateTemplate);
+  }
+
+  private <T> @Nullable T lookup(final @NotNull String key, final @NotNull Locale locale, final Lookup<T> lookup) {
     requireNonNull(key, "key");
     requireNonNull(locale, "locale");
-    for (final Translator source : this.sources) {
-      final MessageFormat translation = source.translate(key, locale);
+    final Caches caches = this.caches;
+    if (caches.notifying && caches.isMiss(key, locale)) return null;
+
+    // try the source which answered for this key last time first
+    final Translator route = caches.routes.get(key);
+    if (route != null) {
+      final T translation = lookup.find(route, key, locale);
       if (translation != null) return translation;
     }
+
+    for (final Translator source : this.sources) {
+      if (source == route) continue;
+      final T translation = lookup.find(source, key, locale);
+      if (translation != null) {
+        caches.routes.put(key, source);
+        return translation;
+      }
+    }
+    if (caches.notifying) caches.miss(key, locale);
     return null;
   }
 
+  private @NotNull Component renderCached(final @NotNull Component component, final @NotNull Locale locale) {
+    if (!component.containsTranslatable()) return component;
+    final @Nullable RenderCache renders = this.caches.renders;
+    if (renders == null) return this.renderer.render(component, locale);
+    final @Nullable Component cached = renders.get(component, locale);
+    if (cached != null) return cached;
+    final Component rendered = this.renderer.render(component, locale);
+    renders.put(component, locale, rendered);
+    return rendered;
+  }
+
+  @FunctionalInterface
+  interface Lookup<T> {
+    @Nullable T find(final @NotNull Translator source, final @NotNull String key, final @NotNull Locale locale);
+  }
+
+  static final class Caches {
+    final boolean notifying;
+    final Map<String, Translator> routes = new ConcurrentHashMap<>();
+    final @Nullable RenderCache renders;
+    private final Map<Locale, Set<String>> misses = new ConcurrentHashMap<>();
+    private final AtomicInteger missCount = new AtomicInteger();
+
+    Caches(final boolean notifying) {
+      this.notifying = notifying;
+      this.renders = notifying ? new RenderCache(MAX_RENDERS) : null;
+    }
+
+    boolean isMiss(final String key, final Locale locale) {
+      final Set<String> misses = this.misses.get(locale);
+      return misses != null && misses.contains(key);
+    }
+
+    void miss(final String key, final Locale locale) {
+      if (this.missCount.incrementAndGet() > MAX_MISSES) {
+        // bounded by dropping everything, misses are cheap to relearn
+        this.misses.clear();
+        this.missCount.set(0);
+      }
+      this.misses.computeIfAbsent(locale, l -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+  }
+
   @Override
   public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
     return Stream.of(ExaminableProperty.of("sources", this.sources));
@@ -0,0 +1,82 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded cache of rendered components per locale.
+ *
+ * <p>Components are held weakly, and compared structurally. Each stripe is cleared once it grows past its share of the maximum size.</p>
+ */
+final class RenderCache {
+  private static final int STRIPES = 16;
+  private final int maximumStripeSize;
+  private final Map<Component, Map<Locale, Component>>[] stripes;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  RenderCache(final int maximumSize) {
+    this.maximumStripeSize = Math.max(1, maximumSize / STRIPES);
+    this.stripes = new Map[STRIPES];
+    for (int i = 0; i < STRIPES; i++) {
+      this.stripes[i] = new WeakHashMap<>();
+    }
+  }
+
+  @Nullable Component get(final @NotNull Component component, final @NotNull Locale locale) {
+    final Map<Component, Map<Locale, Component>> stripe = this.stripe(component);
+    synchronized (stripe) {
+      final @Nullable Map<Locale, Component> rendered = stripe.get(component);
+      return rendered == null ? null : rendered.get(locale);
+    }
+  }
+
+  void put(final @NotNull Component component, final @NotNull Locale locale, final @NotNull Component rendered) {
+    // a value referencing its own key would never be collected
+    if (rendered == component) return;
+    final Map<Component, Map<Locale, Component>> stripe = this.stripe(component);
+    synchronized (stripe) {
+      Map<Locale, Component> renders = stripe.get(component);
+      if (renders == null) {
+        if (stripe.size() >= this.maximumStripeSize) {
+          stripe.clear();
+        }
+        renders = new HashMap<>(4);
+        stripe.put(component, renders);
+      }
+      renders.put(locale, rendered);
+    }
+  }
+
+  private Map<Component, Map<Locale, Component>> stripe(final Component component) {
+    final int hash = component.hashCode();
+    return this.stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Function;
+import net.kyori.adventure.util.UTF8ResourceBundleControl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+final class TranslationLoading {
+  private static final String EXTENSION = ".properties";
+
+  private TranslationLoading() {
+  }
+
+  static void registerAllLazily(final @NotNull TranslationRegistry registry, final @NotNull Locale locale, final @NotNull ResourceBundle bundle, final boolean escapeSingleQuotes) {
+    throwIfAny(register(registry, locale, bundle, escapeSingleQuotes));
+  }
+
+  static void registerAllLazily(final @NotNull TranslationRegistry registry, final @NotNull String baseName, final @NotNull ClassLoader loader, final @NotNull Collection<Locale> locales, final boolean escapeSingleQuotes) {
+    final List<IllegalArgumentException> errors = Collections.synchronizedList(new ArrayList<>());
+    // reading and parsing the bundles dominates, registering a lazy template is cheap
+    locales.parallelStream().forEach(locale -> {
+      final ResourceBundle bundle = ResourceBundle.getBundle(baseName, locale, loader, UTF8ResourceBundleControl.get());
+      final @Nullable List<IllegalArgumentException> bundleErrors = register(registry, locale, bundle, escapeSingleQuotes);
+      if (bundleErrors != null) errors.addAll(bundleErrors);
+    });
+    throwIfAny(errors);
+  }
+
+  static void registerAllLazily(final @NotNull TranslationRegistry registry, final @NotNull Path directory, final @NotNull String baseName, final boolean escapeSingleQuotes) throws IOException {
+    final Set<Locale> locales = locales(directory, baseName);
+    if (locales.isEmpty()) return;
+
+    try(final URLClassLoader loader = directoryLoader(directory)) {
+      try {
+        registerAllLazily(registry, baseName, loader, locales, escapeSingleQuotes);
+      } finally {
+        ResourceBundle.clearCache(loader);
+      }
+    }
+  }
+
+  // the locales of the <baseName>_<locale>.properties bundles in a directory
+  static @NotNull Set<Locale> locales(final @NotNull Path directory, final @NotNull String baseName) throws IOException {
+    final Set<Locale> locales = new HashSet<>();
+    try(final DirectoryStream<Path> files = Files.newDirectoryStream(directory, baseName + "_*" + EXTENSION)) {
+      for (final Path file : files) {
+        final String name = file.getFileName().toString();
+        final @Nullable Locale locale = Translator.parseLocale(name.substring(baseName.length() + 1, name.length() - EXTENSION.length()));
+        if (locale != null) locales.add(locale);
+      }
+    }
+    return locales;
+  }
+
+  static @NotNull URLClassLoader directoryLoader(final @NotNull Path directory) throws IOException {
+    return new URLClassLoader(new URL[]{directory.toUri().toURL()}, null);
+  }
+
+  private static @Nullable List<IllegalArgumentException> register(final TranslationRegistry registry, final Locale locale, final ResourceBundle bundle, final boolean escapeSingleQuotes) {
+    final Function<String, TranslationTemplate> function = key -> {
+      final String pattern = bundle.getString(key);
+      return TranslationTemplate.lazy(
+        escapeSingleQuotes
+          ? TranslationRegistry.SINGLE_QUOTE_PATTERN.matcher(pattern).replaceAll("''")
+          : pattern,
+        locale
+      );
+    };
+    // the whole bundle is one change to a registry of our own
+    if (registry instanceof TranslationRegistryImpl) {
+      return ((TranslationRegistryImpl) registry).registerTemplates(locale, bundle.keySet(), function);
+    }
+
+    List<IllegalArgumentException> errors = null;
+    for (final String key : bundle.keySet()) {
+      try {
+        registry.register(key, locale, function.apply(key));
+      } catch (final IllegalArgumentException e) {
+        if (errors == null) {
+          errors = new ArrayList<>();
+        }
+        errors.add(e);
+      }
+    }
+    return errors;
+  }
+
+  static void throwIfAny(final @Nullable List<IllegalArgumentException> errors) {
+    if (errors == null) return;
+    final int size = errors.size();
+    if (size == 1) {
+      throw errors.get(0);
+    } else if (size > 1) {
+      throw new IllegalArgumentException(String.format("Invalid key (and %d more)", size - 1), errors.get(0));
+    }
+  }
+}
@@ -29,6 +29,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -94,6 +95,23 @@ public interface TranslationRegistry extends Translator {
   @Override
   @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale);
 
+  /**
+   * Gets a translation template from a key and locale.
+   *
+   * <p>Templates are resolved using the same fallbacks as {@link #translate(String, Locale)}.
+   * The registry returned by {@link #create(Key)} compiles each template once, when it is registered.
+   * Other implementations inherit the default from {@link Translator}, which compiles each format the first time it is returned.</p>
+   *
+   * @param key a translation key
+   * @param locale a locale
+   * @return a translation template or {@code null} to skip translation
+   * @since 4.10.0
+   */
+  @Override
+  default @Nullable TranslationTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale) {
+    return Translator.super.translateTemplate(key, locale);
+  }
+
   /**
    * Sets the default locale used by this registry.
    *
@@ -118,6 +136,19 @@ public interface TranslationRegistry extends Translator {
    */
   void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull MessageFormat format);
 
+  /**
+   * Registers a translation from a precompiled template.
+   *
+   * @param key a translation key
+   * @param locale a locale
+   * @param template a translation template
+   * @throws IllegalArgumentException if the translation key is already exists
+   * @since 4.10.0
+   */
+  default void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull TranslationTemplate template) {
+    this.register(key, locale, template.format());
+  }
+
   /**
    * Registers a map of translations.
    *
@@ -188,6 +219,59 @@ public interface TranslationRegistry extends Translator {
     });
   }
 
+  /**
+   * Registers a resource bundle of translations, compiling each translation the first time it is used.
+   *
+   * <p>Unlike {@link #registerAll(Locale, ResourceBundle, boolean)}, patterns are not parsed here,
+   * and invalid patterns are only reported when first rendered.</p>
+   *
+   * @param locale a locale
+   * @param bundle a resource bundle
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @throws IllegalArgumentException if a translation key is already exists
+   * @see TranslationTemplate#lazy(String, Locale)
+   * @since 4.10.0
+   */
+  default void registerAllLazily(final @NotNull Locale locale, final @NotNull ResourceBundle bundle, final boolean escapeSingleQuotes) {
+    TranslationLoading.registerAllLazily(this, locale, bundle, escapeSingleQuotes);
+  }
+
+  /**
+   * Loads resource bundles of translations for several locales in parallel, and registers them lazily.
+   *
+   * <p>Bundles are loaded using {@link UTF8ResourceBundleControl}.</p>
+   *
+   * @param baseName the base name of the bundles
+   * @param loader the class loader to load the bundles from
+   * @param locales the locales to load
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @throws IllegalArgumentException if a translation key is already exists
+   * @throws java.util.MissingResourceException if no bundle can be found for a locale
+   * @see #registerAllLazily(Locale, ResourceBundle, boolean)
+   * @since 4.10.0
+   */
+  default void registerAllLazily(final @NotNull String baseName, final @NotNull ClassLoader loader, final @NotNull Collection<Locale> locales, final boolean escapeSingleQuotes) {
+    TranslationLoading.registerAllLazily(this, baseName, loader, locales, escapeSingleQuotes);
+  }
+
+  /**
+   * Loads every resource bundle of translations in a directory in parallel, and registers them lazily.
+   *
+   * <p>Bundles are found by their file names, {@code <baseName>_<locale>.properties}, for example {@code messages_en_US.properties}.
+   * They are loaded using {@link UTF8ResourceBundleControl}, so a bundle also contains the keys of its parent bundles.</p>
+   *
+   * @param directory the directory containing the bundles
+   * @param baseName the base name of the bundles
+   * @param escapeSingleQuotes whether to escape single quotes
+   * @throws IOException if the directory or a bundle in it cannot be read
+   * @throws IllegalArgumentException if a translation key is already exists
+   * @see #registerAllLazily(Locale, ResourceBundle, boolean)
+   * @since 4.10.0
+   */
+  default void registerAllLazily(final @NotNull Path directory, final @NotNull String baseName, final boolean escapeSingleQuotes) throws IOException {
+    TranslationLoading.registerAllLazily(this, directory, baseName, escapeSingleQuotes);
+  }
+
   /**
    * Registers a resource bundle of translations.
    *
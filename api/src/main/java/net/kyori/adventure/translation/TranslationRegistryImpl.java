@@ -24,10 +24,14 @@
 package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
 import net.kyori.examination.Examinable;
@@ -39,9 +43,16 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.Objects.requireNonNull;
 
 final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
+  private static final int MAX_ROUTES = 256;
   private final Key name;
   private final Map<String, Translation> translations = new ConcurrentHashMap<>();
   private Locale defaultLocale = Locale.US; // en_us
+  // every locale a translation has been registered for, which bounds the number of tables
+  private final Set<Locale> locales = ConcurrentHashMap.newKeySet();
+  // tables of translations with the locale fallback chain already applied, built lazily and kept up to date on every change
+  private volatile Tables tables = new Tables(TranslationLocales.global());
+  // whether this registry is a source of the global translator, which is only told about changes when it is
+  private volatile boolean global;
 
   TranslationRegistryImpl(final Key name) {
     this.name = name;
@@ -49,12 +60,71 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
 
   @Override
   public void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull MessageFormat format) {
-    this.translations.computeIfAbsent(key, Translation::new).register(locale, format);
+    this.register(key, locale, TranslationTemplate.compile(requireNonNull(format, "message format")));
+  }
+
+  @Override
+  public void register(final @NotNull String key, final @NotNull Locale locale, final @NotNull TranslationTemplate template) {
+    synchronized (this.locales) {
+      this.registerLocked(key, locale, template);
+      if (this.locales.add(locale)) this.tables.localeAdded();
+    }
+    this.changed();
+  }
+
+  @Override
+  public void registerAll(final @NotNull Locale locale, final @NotNull Set<String> keys, final Function<String, MessageFormat> function) {
+    TranslationLoading.throwIfAny(this.registerTemplates(locale, keys, key -> TranslationTemplate.compile(requireNonNull(function.apply(key), "message format"))));
+  }
+
+  /*
+   * Registers a batch of translations for one locale, telling the global translator about it once.
+   * Keys which are already registered are skipped and returned as errors, as with registerAll.
+   */
+  @Nullable List<IllegalArgumentException> registerTemplates(final @NotNull Locale locale, final @NotNull Set<String> keys, final @NotNull Function<String, TranslationTemplate> function) {
+    requireNonNull(locale, "locale");
+    List<IllegalArgumentException> errors = null;
+    boolean registered = false;
+    try {
+      synchronized (this.locales) {
+        try {
+          for (final String key : keys) {
+            try {
+              this.registerLocked(key, locale, function.apply(key));
+              registered = true;
+            } catch (final IllegalArgumentException e) {
+              if (errors == null) {
+                errors = new ArrayList<>();
+              }
+              errors.add(e);
+            }
+          }
+        } finally {
+          if (registered && this.locales.add(locale)) this.tables.localeAdded();
+        }
+      }
+    } finally {
+      if (registered) this.changed();
+    }
+    return errors;
+  }
+
+  // a translation is only added to the registry once its template has been registered with it, so a failure leaves nothing behind
+  private void registerLocked(final @NotNull String key, final @NotNull Locale locale, final @NotNull TranslationTemplate template) {
+    final @Nullable Translation existing = this.translations.get(key);
+    final Translation translation = existing == null ? new Translation(key) : existing;
+    translation.register(locale, template);
+    if (existing == null) this.translations.put(key, translation);
+    this.tables.update(translation);
   }
 
   @Override
   public void unregister(final @NotNull String key) {
-    this.translations.remove(key);
+    synchronized (this.locales) {
+      this.translations.remove(key);
+      this.tables.remove(key);
+    }
+    this.changed();
   }
 
   @Override
@@ -69,14 +139,52 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
 
   @Override
   public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
-    final Translation translation = this.translations.get(key);
-    if (translation == null) return null;
-    return translation.translate(locale);
+    final TranslationTemplate template = this.translateTemplate(key, locale);
+    if (template == null) return null;
+    return template.format();
+  }
+
+  @Override
+  public @Nullable TranslationTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale) {
+    Tables tables = this.tables;
+    final Locale global = TranslationLocales.global();
+    if (!tables.global.equals(global)) {
+      synchronized (this.locales) {
+        tables = this.tables;
+        if (!tables.global.equals(global)) {
+          tables = this.tables = new Tables(global);
+        }
+      }
+    }
+    return tables.route(requireNonNull(locale, "locale")).get(key);
+  }
+
+  /*
+   * Any locale resolves exactly like the first locale in its fallback chain which has had a translation registered,
+   * so only those locales, plus the default locales, need a table of their own.
+   */
+  private @Nullable Locale tableLocale(final @NotNull Locale locale) {
+    if (this.locales.contains(locale)) return locale;
+    final Locale language = new Locale(locale.getLanguage());
+    if (this.locales.contains(language)) return language;
+    return null; // only the default locales apply
+  }
+
+  void global(final boolean global) {
+    this.global = global;
+  }
+
+  private void changed() {
+    if (this.global) GlobalTranslatorImpl.INSTANCE.sourceChanged(this);
   }
 
   @Override
   public void defaultLocale(final @NotNull Locale defaultLocale) {
-    this.defaultLocale = requireNonNull(defaultLocale, "defaultLocale");
+    synchronized (this.locales) {
+      this.defaultLocale = requireNonNull(defaultLocale, "defaultLocale");
+      this.tables = new Tables(TranslationLocales.global());
+    }
+    this.changed();
   }
 
   @Override
@@ -106,30 +214,110 @@ final class TranslationRegistryImpl implements Examinable, TranslationRegistry {
     return this.examine(StringExaminer.simpleEscaping());
   }
 
+  final class Tables {
+    final Locale global;
+    private final Map<Locale, Map<String, TranslationTemplate>> tables = new ConcurrentHashMap<>();
+    private volatile @Nullable Map<String, TranslationTemplate> defaults;
+    // the table each requested locale resolves to, so a lookup is one get for the table and one for the key
+    private final Map<Locale, Map<String, TranslationTemplate>> routes = new ConcurrentHashMap<>();
+
+    Tables(final Locale global) {
+      this.global = global;
+    }
+
+    Map<String, TranslationTemplate> route(final @NotNull Locale locale) {
+      Map<String, TranslationTemplate> table = this.routes.get(locale);
+      if (table != null) return table;
+      synchronized (TranslationRegistryImpl.this.locales) {
+        table = this.routes.get(locale);
+        if (table == null) {
+          table = this.table(TranslationRegistryImpl.this.tableLocale(locale));
+          // bounded by dropping every route, they are cheap to find again
+          if (this.routes.size() >= MAX_ROUTES) this.routes.clear();
+          this.routes.put(locale, table);
+        }
+        return table;
+      }
+    }
+
+    // a newly registered locale may be the one other locales now resolve to
+    void localeAdded() {
+      this.routes.clear();
+    }
+
+    // a null locale is the table of translations in the default locales only
+    Map<String, TranslationTemplate> table(final @Nullable Locale locale) {
+      Map<String, TranslationTemplate> table = locale == null ? this.defaults : this.tables.get(locale);
+      if (table != null) return table;
+      synchronized (TranslationRegistryImpl.this.locales) {
+        table = locale == null ? this.defaults : this.tables.get(locale);
+        if (table == null) {
+          table = new ConcurrentHashMap<>();
+          for (final Translation translation : TranslationRegistryImpl.this.translations.values()) {
+            final @Nullable TranslationTemplate template = translation.translate(locale, this.global);
+            if (template != null) table.put(translation.key, template);
+          }
+          if (locale == null) {
+            this.defaults = table;
+          } else {
+            this.tables.put(locale, table);
+          }
+        }
+        return table;
+      }
+    }
+
+    // only the tables built so far are touched, and only for the one key
+    void update(final Translation translation) {
+      for (final Map.Entry<Locale, Map<String, TranslationTemplate>> entry : this.tables.entrySet()) {
+        this.update(entry.getValue(), translation, entry.getKey());
+      }
+      final @Nullable Map<String, TranslationTemplate> defaults = this.defaults;
+      if (defaults != null) this.update(defaults, translation, null);
+    }
+
+    private void update(final Map<String, TranslationTemplate> table, final Translation translation, final @Nullable Locale locale) {
+      final @Nullable TranslationTemplate template = translation.translate(locale, this.global);
+      if (template != null) table.put(translation.key, template);
+    }
+
+    void remove(final String key) {
+      for (final Map<String, TranslationTemplate> table : this.tables.values()) {
+        table.remove(key);
+      }
+      final @Nullable Map<String, TranslationTemplate> defaults = this.defaults;
+      if (defaults != null) defaults.remove(key);
+    }
+  }
+
   final class Translation implements Examinable {
     private final String key;
-    private final Map<Locale, MessageFormat> formats;
+    private final Map<Locale, TranslationTemplate> formats;
 
     Translation(final @NotNull String key) {
       this.key = requireNonNull(key, "translation key");
       this.formats = new ConcurrentHashMap<>();
     }
 
-    void register(final @NotNull Locale locale, final @NotNull MessageFormat format) {
-      if (this.formats.putIfAbsent(requireNonNull(locale, "locale"), requireNonNull(format, "message format")) != null) {
+    void register(final @NotNull Locale locale, final @NotNull TranslationTemplate template) {
+      if (this.formats.putIfAbsent(requireNonNull(locale, "locale"), requireNonNull(template, "translation template")) != null) {
         throw new IllegalArgumentException(String.format("Translation already exists: %s for %s", this.key, locale));
       }
     }
 
-    @Nullable MessageFormat translate(final @NotNull Locale locale) {
-      MessageFormat format = this.formats.get(requireNonNull(locale, "locale"));
+    // a null locale only tries the default locales
+    @Nullable TranslationTemplate translate(final @Nullable Locale locale, final @NotNull Locale global) {
+      TranslationTemplate format = null;
+      if (locale != null) {
+        format = this.formats.get(locale);
+        if (format == null) {
+          format = this.formats.get(new Locale(locale.getLanguage())); // try without country
+        }
+      }
       if (format == null) {
-        format = this.formats.get(new Locale(locale.getLanguage())); // try without country
+        format = this.formats.get(TranslationRegistryImpl.this.defaultLocale); // try local default locale
         if (format == null) {
-          format = this.formats.get(TranslationRegistryImpl.this.defaultLocale); // try local default locale
-          if (format == null) {
-            format = this.formats.get(TranslationLocales.global()); // try global default locale
-          }
+          format = this.formats.get(global); // try global default locale
         }
       }
       return format;
@@ -0,0 +1,110 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import net.kyori.examination.Examinable;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A translation pattern parsed ahead of time into literal segments and argument slots.
+ *
+ * <p>A template with {@code n} {@link #slots() slots} has {@code n + 1} literals, and is rendered as
+ * {@code literal(0) argument(0) literal(1) ... argument(n - 1) literal(n)}. Templates are immutable,
+ * and may be shared between threads, unlike the {@link MessageFormat} they are compiled from.</p>
+ *
+ * @since 4.10.0
+ */
+@ApiStatus.NonExtendable
+public interface TranslationTemplate extends Examinable {
+  /**
+   * Compiles a template from a message format.
+   *
+   * <p>Arguments are treated as opaque slots, regardless of any format type or style they declare.
+   * Compiled templates are remembered for as long as their format is in use, so compiling the same, unchanged
+   * format again returns the same template without parsing it again.</p>
+   *
+   * @param format the message format
+   * @return a template
+   * @since 4.10.0
+   */
+  static @NotNull TranslationTemplate compile(final @NotNull MessageFormat format) {
+    return TranslationTemplateImpl.compile(format);
+  }
+
+  /**
+   * Creates a template which compiles {@code pattern} the first time it is used.
+   *
+   * <p>Compilation happens at most once, even when first used by several threads at the same time.
+   * An invalid pattern is reported when the template is first used, as an {@link IllegalArgumentException}.</p>
+   *
+   * @param pattern the message format pattern
+   * @param locale the locale of the pattern
+   * @return a template
+   * @since 4.10.0
+   */
+  static @NotNull TranslationTemplate lazy(final @NotNull String pattern, final @NotNull Locale locale) {
+    return new TranslationTemplateImpl.Lazy(requireNonNull(pattern, "pattern"), requireNonNull(locale, "locale"));
+  }
+
+  /**
+   * Gets the message format this template was compiled from.
+   *
+   * <p>The returned format is shared, and is not safe for concurrent use.</p>
+   *
+   * @return the message format
+   * @since 4.10.0
+   */
+  @NotNull MessageFormat format();
+
+  /**
+   * Gets the number of argument slots in this template.
+   *
+   * @return the number of slots
+   * @since 4.10.0
+   */
+  int slots();
+
+  /**
+   * Gets the literal text before the slot at {@code index}, or after the last slot when {@code index} is {@link #slots()}.
+   *
+   * @param index the index, from {@code 0} to {@link #slots()} inclusive
+   * @return the literal text, possibly empty
+   * @since 4.10.0
+   */
+  @NotNull String literal(final int index);
+
+  /**
+   * Gets the index of the argument placed in a slot.
+   *
+   * @param slot the slot
+   * @return the argument index
+   * @since 4.10.0
+   */
+  int argument(final int slot);
+}
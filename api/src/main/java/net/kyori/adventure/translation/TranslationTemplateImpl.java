@@ -0,0 +1,258 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.lang.ref.SoftReference;
+import java.text.AttributedCharacterIterator;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class TranslationTemplateImpl implements TranslationTemplate {
+  private static final int[] NO_ARGUMENTS = new int[0];
+  private static final int STRIPES = 16;
+  // templates compiled from formats which are still in use, so translators returning the same format don't compile it on every render
+  // the values are soft, as each template holds on to its format
+  private static final Map<MessageFormat, SoftReference<TranslationTemplate>>[] COMPILED = compiledStripes();
+  private final String pattern;
+  private final Locale locale;
+  private final String[] literals;
+  private final int[] arguments;
+  private volatile @Nullable MessageFormat format; // created on demand for precompiled templates
+
+  private TranslationTemplateImpl(final String pattern, final Locale locale, final String[] literals, final int[] arguments, final @Nullable MessageFormat format) {
+    this.pattern = pattern;
+    this.locale = locale;
+    this.literals = literals;
+    this.arguments = arguments;
+    this.format = format;
+  }
+
+  private TranslationTemplateImpl(final MessageFormat format, final String[] literals, final int[] arguments) {
+    this(format.toPattern(), format.getLocale(), literals, arguments, format);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Map<MessageFormat, SoftReference<TranslationTemplate>>[] compiledStripes() {
+    final Map<MessageFormat, SoftReference<TranslationTemplate>>[] stripes = new Map[STRIPES];
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new WeakHashMap<>();
+    }
+    return stripes;
+  }
+
+  // a template which has already been split into literals and slots, such as one read from a binary bundle
+  static @NotNull TranslationTemplate precompiled(final @NotNull String pattern, final @NotNull Locale locale, final @NotNull String@NotNull[] literals, final int@NotNull[] arguments) {
+    return new TranslationTemplateImpl(pattern, locale, literals, arguments, null);
+  }
+
+  static @NotNull TranslationTemplate compile(final @NotNull MessageFormat format) {
+    requireNonNull(format, "format");
+    final Map<MessageFormat, SoftReference<TranslationTemplate>> stripe = COMPILED[format.hashCode() & (STRIPES - 1)];
+    synchronized (stripe) {
+      final @Nullable SoftReference<TranslationTemplate> compiled = stripe.get(format);
+      final @Nullable TranslationTemplate template = compiled == null ? null : compiled.get();
+      if (template != null) return template;
+    }
+    final TranslationTemplate template;
+    // the format may be shared by a translator, and formatting is not safe for concurrent use
+    synchronized (format) {
+      template = compileUncached(format);
+    }
+    synchronized (stripe) {
+      stripe.put(format, new SoftReference<>(template));
+    }
+    return template;
+  }
+
+  private static @NotNull TranslationTemplate compileUncached(final @NotNull MessageFormat format) {
+    // format with a null for every argument, the runs marked as arguments are the slots
+    final Object[] nulls = new Object[format.getFormatsByArgumentIndex().length];
+    if (nulls.length == 0) {
+      return new TranslationTemplateImpl(format, new String[]{format.format(nulls, new StringBuffer(), null).toString()}, NO_ARGUMENTS);
+    }
+
+    final String text = format.format(nulls, new StringBuffer(), null).toString();
+    final AttributedCharacterIterator it = format.formatToCharacterIterator(nulls);
+    final List<String> literals = new ArrayList<>();
+    final List<Integer> arguments = new ArrayList<>();
+    String literal = "";
+    while (it.getIndex() < it.getEndIndex()) {
+      final int end = it.getRunLimit();
+      final Integer index = (Integer) it.getAttribute(MessageFormat.Field.ARGUMENT);
+      if (index != null) {
+        literals.add(literal);
+        arguments.add(index);
+        literal = "";
+      } else {
+        literal = literal.concat(text.substring(it.getIndex(), end));
+      }
+      it.setIndex(end);
+    }
+    literals.add(literal);
+
+    final int[] slots = new int[arguments.size()];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = arguments.get(i);
+    }
+    return new TranslationTemplateImpl(format, literals.toArray(new String[0]), slots);
+  }
+
+  @Override
+  public @NotNull MessageFormat format() {
+    MessageFormat format = this.format;
+    if (format == null) {
+      format = new MessageFormat(this.pattern, this.locale);
+      this.format = format;
+    }
+    return format;
+  }
+
+  @Override
+  public int slots() {
+    return this.arguments.length;
+  }
+
+  @Override
+  public @NotNull String literal(final int index) {
+    return this.literals[index];
+  }
+
+  @Override
+  public int argument(final int slot) {
+    return this.arguments[slot];
+  }
+
+  @Override
+  public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+    return Stream.of(
+      ExaminableProperty.of("format", this.pattern),
+      ExaminableProperty.of("literals", this.literals),
+      ExaminableProperty.of("arguments", this.arguments)
+    );
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) return true;
+    final Object compiled = other instanceof Lazy ? ((Lazy) other).compiled() : other;
+    if (!(compiled instanceof TranslationTemplateImpl)) return false;
+    final TranslationTemplateImpl that = (TranslationTemplateImpl) compiled;
+    return this.format().equals(that.format())
+      && Arrays.equals(this.literals, that.literals)
+      && Arrays.equals(this.arguments, that.arguments);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.format().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.examine(StringExaminer.simpleEscaping());
+  }
+
+  static final class Lazy implements TranslationTemplate {
+    private final String pattern;
+    private final Locale locale;
+    private volatile @Nullable TranslationTemplate compiled;
+
+    Lazy(final String pattern, final Locale locale) {
+      this.pattern = pattern;
+      this.locale = locale;
+    }
+
+    TranslationTemplate compiled() {
+      TranslationTemplate compiled = this.compiled;
+      if (compiled == null) {
+        synchronized (this) {
+          compiled = this.compiled;
+          if (compiled == null) {
+            compiled = TranslationTemplateImpl.compile(new MessageFormat(this.pattern, this.locale));
+            this.compiled = compiled;
+          }
+        }
+      }
+      return compiled;
+    }
+
+    @Override
+    public @NotNull MessageFormat format() {
+      return this.compiled().format();
+    }
+
+    @Override
+    public int slots() {
+      return this.compiled().slots();
+    }
+
+    @Override
+    public @NotNull String literal(final int index) {
+      return this.compiled().literal(index);
+    }
+
+    @Override
+    public int argument(final int slot) {
+      return this.compiled().argument(slot);
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("pattern", this.pattern),
+        ExaminableProperty.of("locale", this.locale),
+        ExaminableProperty.of("compiled", this.compiled != null)
+      );
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if (this == other) return true;
+      if (!(other instanceof TranslationTemplate)) return false;
+      return this.compiled().equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.compiled().hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return this.examine(StringExaminer.simpleEscaping());
+    }
+  }
+}
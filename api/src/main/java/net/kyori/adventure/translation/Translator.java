@@ -82,4 +82,22 @@ public interface Translator {
    * @since 4.0.0
    */
   @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale);
+
+  /**
+   * Gets a translation template from a key and locale.
+   *
+   * <p>The default implementation compiles the result of {@link #translate(String, Locale)} using {@link TranslationTemplate#compile(MessageFormat)},
+   * which only compiles each format once while it is in use. Implementations which hold their translations
+   * may override this to return templates compiled ahead of time.</p>
+   *
+   * @param key a translation key
+   * @param locale a locale
+   * @return a translation template or {@code null} to skip translation
+   * @since 4.10.0
+   */
+  default @Nullable TranslationTemplate translateTemplate(final @NotNull String key, final @NotNull Locale locale) {
+    final @Nullable MessageFormat format = this.translate(key, locale);
+    if (format == null) return null;
+    return TranslationTemplate.compile(format);
+  }
 }
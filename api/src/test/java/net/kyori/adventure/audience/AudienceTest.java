@@ -24,11 +24,19 @@
 package net.kyori.adventure.audience;
 
 import com.google.common.testing.EqualsTester;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.pointer.Pointers;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
@@ -122,4 +130,44 @@ class AudienceTest {
   void testCollectorSingleItem() {
     assertThat(Stream.of(Audience.empty()).collect(Audience.toAudience()).audiences()).containsExactly(Audience.empty());
   }
+
+  @Test
+  void testForwardingRendersOncePerLocale() {
+    final AtomicInteger renders = new AtomicInteger(0);
+    final RenderedMessageReceiver.Renderer<String> renderer = (message, audience) -> {
+      renders.incrementAndGet();
+      return audience.getOrDefault(Identity.LOCALE, null) + ":" + ((TextComponent) message).content();
+    };
+    final List<String> received = new ArrayList<>();
+    final List<Audience> audiences = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      final Locale locale = i % 2 == 0 ? Locale.US : Locale.GERMANY;
+      audiences.add(new RenderedMessageReceiver<String>() {
+        @Override
+        public RenderedMessageReceiver.@NotNull Renderer<String> messageRenderer() {
+          return renderer;
+        }
+
+        @Override
+        public void sendRenderedMessage(final @NotNull Identity source, final @NotNull String message, final @NotNull MessageType type) {
+          received.add(message);
+        }
+
+        @Override
+        public @NotNull Pointers pointers() {
+          return Pointers.builder().withStatic(Identity.LOCALE, locale).build();
+        }
+      });
+    }
+    audiences.add(new Audience() {
+      @Override
+      public void sendMessage(final @NotNull Identity source, final @NotNull Component message, final @NotNull MessageType type) {
+        received.add("plain:" + ((TextComponent) message).content());
+      }
+    });
+
+    Audience.audience(audiences).sendMessage(Identity.nil(), Component.text("hi"));
+    assertEquals(2, renders.get());
+    assertEquals(Arrays.asList("en_US:hi", "de_DE:hi", "en_US:hi", "de_DE:hi", "en_US:hi", "de_DE:hi", "plain:hi"), received);
+  }
 }
@@ -61,6 +61,18 @@ abstract class AbstractComponentTest<C extends BuildableComponent<C, B> & Scoped
     assertSame(Style.empty(), c0.style());
   }
 
+  @Test
+  void testHashCodeIsStable() {
+    final C c0 = this.builder().color(NamedTextColor.RED).append(Component.text("child")).build();
+    final C c1 = this.builder().color(NamedTextColor.RED).append(Component.text("child")).build();
+    final int hash = c0.hashCode();
+    assertEquals(hash, c0.hashCode());
+    assertEquals(hash, c1.hashCode());
+    // both hashes are cached now, which must not make separately built equal components unequal
+    assertEquals(c0, c1);
+    assertEquals(c1, c0);
+  }
+
   @Test
   void testChildren() {
     final C c0 = this.buildOne();
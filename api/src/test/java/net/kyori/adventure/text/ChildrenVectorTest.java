@@ -0,0 +1,141 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChildrenVectorTest {
+  @Test
+  void testAppendMatchesList() {
+    final List<Component> expected = new ArrayList<>();
+    ChildrenVector vector = ChildrenVector.EMPTY;
+    for (int i = 0; i < 34000; i++) {
+      final Component component = Component.text(i);
+      expected.add(component);
+      vector = vector.plus(component);
+      // check around every boundary where the tail moves into the trie or the trie grows
+      if (i < 70 || (i & 31) == 31 || (i & 31) == 0) {
+        assertEquals(expected.size(), vector.size());
+        assertSame(component, vector.get(i));
+      }
+    }
+    assertEquals(expected, vector);
+  }
+
+  @Test
+  void testBulkMatchesAppend() {
+    for (final int size : new int[]{0, 1, 31, 32, 33, 64, 65, 1024, 1056, 1057, 2000, 33824, 33825}) {
+      final List<Component> expected = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        expected.add(Component.text(i));
+      }
+      ChildrenVector vector = ChildrenVector.of(expected, null);
+      assertEquals(expected, vector);
+      // keep appending to a bulk-built vector
+      for (int i = 0; i < 1100; i++) {
+        final Component component = Component.text(-i);
+        expected.add(component);
+        vector = vector.plus(component);
+      }
+      assertEquals(expected, vector);
+    }
+  }
+
+  @Test
+  void testFiltersAndRejectsNull() {
+    assertEquals(Collections.singletonList(Component.text("a")), ChildrenVector.of(Arrays.asList(Component.empty(), Component.text("a")), Component.IS_NOT_EMPTY));
+    assertThrows(NullPointerException.class, () -> ChildrenVector.of(Collections.singletonList(null), null));
+    assertThrows(IndexOutOfBoundsException.class, () -> ChildrenVector.EMPTY.plus(Component.text("a")).get(1));
+  }
+
+  @Test
+  void testAppendSharesWithoutChangingOriginal() {
+    Component component = Component.text("root");
+    final List<Component> versions = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      versions.add(component);
+      component = component.append(Component.text(i));
+    }
+    for (int i = 0; i < versions.size(); i++) {
+      assertEquals(i, versions.get(i).children().size());
+    }
+    assertSame(component.children(), component.style(Style.style(NamedTextColor.RED)).children());
+    assertThrows(UnsupportedOperationException.class, () -> versions.get(10).children().add(Component.empty()));
+  }
+
+  @Test
+  void testSmallListsUseCompactLayouts() {
+    assertSame(ChildrenVector.EMPTY, ChildrenVector.of(Collections.emptyList(), null));
+    assertSame(ChildrenVector.EMPTY, Component.text("leaf").children());
+    final ChildrenVector one = ChildrenVector.EMPTY.plus(Component.text(0));
+    assertTrue(one instanceof ChildrenVector.Single);
+    ChildrenVector small = one;
+    for (int i = 1; i < 32; i++) {
+      small = small.plus(Component.text(i));
+      assertTrue(small instanceof ChildrenVector.Small);
+    }
+    assertTrue(small.plus(Component.text(32)) instanceof ChildrenVector.Trie);
+    assertTrue(ChildrenVector.of(Collections.singletonList(Component.text(0)), null) instanceof ChildrenVector.Single);
+    assertTrue(Component.text().append(Component.text(0)).build().children() instanceof ChildrenVector.Single);
+  }
+
+  @Test
+  void testListContract() {
+    for (final int size : new int[]{0, 1, 2, 32, 33, 100}) {
+      final List<Component> expected = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        expected.add(Component.text(i));
+      }
+      final ChildrenVector vector = ChildrenVector.of(expected, null);
+      assertEquals(expected, vector);
+      assertEquals(vector, expected);
+      assertEquals(expected.hashCode(), vector.hashCode());
+      assertEquals(expected.toString(), vector.toString());
+      assertEquals(expected, new ArrayList<>(vector));
+      assertEquals(expected, Arrays.asList(vector.toArray(new Component[0])));
+      assertEquals(expected.subList(size / 3, size / 2), vector.subList(size / 3, size / 2));
+      if (size > 0) {
+        final Component last = expected.get(size - 1);
+        assertEquals(size - 1, vector.indexOf(last));
+        assertEquals(size - 1, vector.lastIndexOf(last));
+        assertTrue(vector.contains(last));
+        assertSame(last, vector.listIterator(size).previous());
+      }
+      assertThrows(UnsupportedOperationException.class, () -> vector.add(Component.empty()));
+      assertThrows(UnsupportedOperationException.class, vector::clear);
+      assertThrows(IndexOutOfBoundsException.class, () -> vector.subList(0, size + 1));
+    }
+  }
+}
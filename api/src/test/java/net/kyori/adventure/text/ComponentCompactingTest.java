@@ -314,4 +314,22 @@ class ComponentCompactingTest {
 
     assertEquals(expectedCompact, notCompact.compact());
   }
+
+  @Test
+  void testWideTree() {
+    final TextComponent.Builder notCompact = text();
+    final StringBuilder expectedContent = new StringBuilder();
+    final TextComponent.Builder expectedChildren = text();
+    for (int i = 0; i < 10_000; i++) {
+      notCompact.append(text(i, NamedTextColor.RED), text("|", NamedTextColor.RED));
+      expectedContent.append(i).append('|');
+      if (i % 1_000 == 999) {
+        notCompact.append(text("-", NamedTextColor.BLUE));
+        expectedChildren.append(text(expectedContent.toString(), NamedTextColor.RED), text("-", NamedTextColor.BLUE));
+        expectedContent.setLength(0);
+      }
+    }
+
+    assertEquals(expectedChildren.build(), notCompact.build().compact());
+  }
 }
@@ -28,6 +28,7 @@ import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.event.HoverEvent;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 // https://github.com/KyoriPowered/adventure/issues/363
@@ -67,4 +68,13 @@ class ComponentContainsTest {
     assertTrue(c1.contains(c0));
     assertTrue(c1.contains(Component.text("Joe Ray"), Component.EQUALS));
   }
+
+  @Test
+  public void testContainsTranslatable() {
+    assertFalse(Component.text("plain").append(Component.keybind("key.jump")).containsTranslatable());
+    assertTrue(Component.translatable("chat.type.text").containsTranslatable());
+    assertTrue(Component.text("parent").append(Component.text("child").append(Component.translatable("item.stick"))).containsTranslatable());
+    assertTrue(Component.text("hover").hoverEvent(Component.translatable("item.stick")).containsTranslatable());
+    assertTrue(Component.text("entity").hoverEvent(HoverEvent.showEntity(Key.key("pig"), UUID.randomUUID(), Component.translatable("entity.minecraft.pig"))).containsTranslatable());
+  }
 }
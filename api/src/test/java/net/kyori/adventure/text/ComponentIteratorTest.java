@@ -23,13 +23,23 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -153,4 +163,55 @@ class ComponentIteratorTest {
 
     fail("Could not locale the arg of a translatable component.");
   }
+
+  @Test
+  public void testSpliteratorSplitsInOrder() {
+    final Component component = tree(3, 6);
+    final List<Component> expected = new ArrayList<>();
+    component.iterator(ComponentIteratorType.DEPTH_FIRST, ComponentIteratorFlag.INCLUDE_HOVER_SHOW_TEXT_COMPONENT).forEachRemaining(expected::add);
+
+    final Spliterator<Component> spliterator = component.spliterator(ComponentIteratorType.DEPTH_FIRST, ComponentIteratorFlag.INCLUDE_HOVER_SHOW_TEXT_COMPONENT);
+    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL));
+    final Spliterator<Component> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    final List<Component> actual = new ArrayList<>();
+    prefix.forEachRemaining(actual::add);
+    spliterator.forEachRemaining(actual::add);
+    assertEquals(expected, actual);
+
+    assertEquals(expected, StreamSupport.stream(component.spliterator(ComponentIteratorType.DEPTH_FIRST, ComponentIteratorFlag.INCLUDE_HOVER_SHOW_TEXT_COMPONENT), true).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testSpliteratorOfLeaf() {
+    final Spliterator<Component> spliterator = Component.text("leaf").spliterator(ComponentIteratorType.DEPTH_FIRST);
+    assertNull(spliterator.trySplit());
+    final List<Component> actual = new ArrayList<>();
+    spliterator.forEachRemaining(actual::add);
+    assertEquals(Collections.singletonList(Component.text("leaf")), actual);
+  }
+
+  @Test
+  public void testForEachReusesDeque() {
+    final Component component = tree(2, 4);
+    final Deque<Component> deque = new ArrayDeque<>();
+    for (final ComponentIteratorType type : new ComponentIteratorType[]{ComponentIteratorType.DEPTH_FIRST, ComponentIteratorType.BREADTH_FIRST}) {
+      final List<Component> expected = new ArrayList<>();
+      component.iterator(type, Collections.emptySet()).forEachRemaining(expected::add);
+      final List<Component> actual = new ArrayList<>();
+      component.forEach(type, Collections.emptySet(), deque, actual::add);
+      assertEquals(expected, actual);
+      assertTrue(deque.isEmpty());
+    }
+  }
+
+  private static Component tree(final int depth, final int width) {
+    final TextComponent.Builder builder = Component.text().content("d" + depth);
+    if (depth > 0) {
+      for (int i = 0; i < width; i++) {
+        builder.append(tree(depth - 1, width).hoverEvent(i == 0 ? HoverEvent.showText(Component.text("hover" + depth)) : null));
+      }
+    }
+    return builder.build();
+  }
 }
@@ -0,0 +1,96 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import org.junit.jupiter.api.Test;
+
+import static net.kyori.adventure.text.Component.text;
+import static net.kyori.adventure.text.Component.translatable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ComponentPoolTest {
+  @Test
+  void testInternReturnsCanonicalInstance() {
+    final ComponentPool pool = ComponentPool.create();
+    final TextComponent a = text("prefix", NamedTextColor.RED);
+    final TextComponent b = text("prefix", NamedTextColor.RED);
+    assertNotSame(a, b);
+    assertSame(a, pool.intern(a));
+    assertSame(a, pool.intern(b));
+  }
+
+  @Test
+  void testInternSharesSubtrees() {
+    final ComponentPool pool = ComponentPool.create();
+    final Component first = pool.intern(text().append(text("[", NamedTextColor.GRAY)).append(text("one")).build());
+    final Component second = pool.intern(text().append(text("[", NamedTextColor.GRAY)).append(text("two")).build());
+    assertSame(first.children().get(0), second.children().get(0));
+  }
+
+  @Test
+  void testInternTranslatableArguments() {
+    final ComponentPool pool = ComponentPool.create();
+    final TranslatableComponent first = pool.intern(translatable("key", text("arg", NamedTextColor.GOLD)));
+    final TranslatableComponent second = pool.intern(translatable("other", text("arg", NamedTextColor.GOLD)));
+    assertSame(first.args().get(0), second.args().get(0));
+  }
+
+  @Test
+  void testInternStyle() {
+    final ComponentPool pool = ComponentPool.create();
+    final Style style = pool.intern(Style.style(NamedTextColor.AQUA, TextDecoration.BOLD));
+    assertSame(style, pool.intern(Style.style(NamedTextColor.AQUA, TextDecoration.BOLD)));
+    assertSame(style, pool.intern(text("a", NamedTextColor.AQUA, TextDecoration.BOLD)).style());
+  }
+
+  @Test
+  void testInternHoverEvents() {
+    final ComponentPool pool = ComponentPool.create();
+    final Component tooltip = pool.intern(text("tooltip", NamedTextColor.YELLOW));
+    final Component hovered = pool.intern(text("a").hoverEvent(HoverEvent.showText(text("tooltip", NamedTextColor.YELLOW))));
+    assertSame(tooltip, hovered.hoverEvent().value());
+
+    final UUID id = UUID.randomUUID();
+    final Component entity = pool.intern(text("b").hoverEvent(HoverEvent.showEntity(Key.key("pig"), id, text("tooltip", NamedTextColor.YELLOW))));
+    assertSame(tooltip, ((HoverEvent.ShowEntity) entity.hoverEvent().value()).name());
+  }
+
+  @Test
+  void testInterningRenderer() {
+    final ComponentPool pool = ComponentPool.create();
+    final ComponentRenderer<Void> renderer = pool.interning((component, context) -> text("rendered"));
+    final Component rendered = renderer.render(text("a"), null);
+    assertEquals(text("rendered"), rendered);
+    assertSame(rendered, renderer.render(text("b"), null));
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text;
+
+import java.util.Collections;
+import java.util.List;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.renderer.AbstractComponentRenderer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ComponentVisitorTest {
+  private static final Component UNKNOWN = new Component() {
+    @Override
+    public @NotNull List<Component> children() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public @NotNull Component children(final @NotNull List<? extends ComponentLike> children) {
+      return this;
+    }
+
+    @Override
+    public @NotNull Style style() {
+      return Style.empty();
+    }
+
+    @Override
+    public @NotNull Component style(final @NotNull Style style) {
+      return this;
+    }
+  };
+
+  @Test
+  void testDispatchesByType() {
+    assertEquals("text:a", Component.text("a").accept(Namer.INSTANCE, ":"));
+    assertEquals("translatable:a", Component.translatable("a").accept(Namer.INSTANCE, ":"));
+    assertEquals("keybind:a", Component.keybind("a").accept(Namer.INSTANCE, ":"));
+    assertEquals("score:a", Component.score("a", "b").accept(Namer.INSTANCE, ":"));
+    assertEquals("selector:a", Component.selector("a").accept(Namer.INSTANCE, ":"));
+    assertEquals("block:a", Component.blockNBT("a", BlockNBTComponent.LocalPos.of(1d, 2d, 3d)).accept(Namer.INSTANCE, ":"));
+    assertEquals("entity:a", Component.entityNBT("a", "@p").accept(Namer.INSTANCE, ":"));
+    assertEquals("storage:a", Component.storageNBT("a", Key.key("adventure", "b")).accept(Namer.INSTANCE, ":"));
+  }
+
+  @Test
+  void testUnknownComponent() {
+    assertThrows(IllegalArgumentException.class, () -> UNKNOWN.accept(Namer.INSTANCE, ":"));
+  }
+
+  @Test
+  void testRendererLeavesUnknownComponent() {
+    final AbstractComponentRenderer<Void> renderer = new AbstractComponentRenderer<Void>() {
+      @Override
+      protected @NotNull Component renderBlockNbt(final @NotNull BlockNBTComponent component, final @NotNull Void context) {
+        return Component.empty();
+      }
+
+      @Override
+      protected @NotNull Component renderEntityNbt(final @NotNull EntityNBTComponent component, final @NotNull Void context) {
+        return Component.empty();
+      }
+
+      @Override
+      protected @NotNull Component renderStorageNbt(final @NotNull StorageNBTComponent component, final @NotNull Void context) {
+        return Component.empty();
+      }
+
+      @Override
+      protected @NotNull Component renderKeybind(final @NotNull KeybindComponent component, final @NotNull Void context) {
+        return Component.empty();
+      }
+
+      @Override
+      protected @NotNull Component renderScore(final @NotNull ScoreComponent component, final @NotNull Void context) {
+        return Component.empty();
+      }
+
+      @Override
+      protected @NotNull Component renderSelector(final @NotNull SelectorComponent component, final @NotNull Void context) {
+        return Component.empty();
+      }
+
+      @Override
+      protected @NotNull Component renderText(final @NotNull TextComponent component, final @NotNull Void context) {
+        return Component.text(component.content() + "!");
+      }
+
+      @Override
+      protected @NotNull Component renderTranslatable(final @NotNull TranslatableComponent component, final @NotNull Void context) {
+        return Component.empty();
+      }
+    };
+    assertEquals(Component.text("a!"), renderer.render(Component.text("a"), null));
+    assertSame(UNKNOWN, renderer.render(UNKNOWN, null));
+  }
+
+  static class Namer implements ComponentVisitor<String, String> {
+    static final Namer INSTANCE = new Namer();
+
+    @Override
+    public String visitText(final @NotNull TextComponent component, final String separator) {
+      return "text" + separator + component.content();
+    }
+
+    @Override
+    public String visitTranslatable(final @NotNull TranslatableComponent component, final String separator) {
+      return "translatable" + separator + component.key();
+    }
+
+    @Override
+    public String visitKeybind(final @NotNull KeybindComponent component, final String separator) {
+      return "keybind" + separator + component.keybind();
+    }
+
+    @Override
+    public String visitScore(final @NotNull ScoreComponent component, final String separator) {
+      return "score" + separator + component.name();
+    }
+
+    @Override
+    public String visitSelector(final @NotNull SelectorComponent component, final String separator) {
+      return "selector" + separator + component.pattern();
+    }
+
+    @Override
+    public String visitBlockNbt(final @NotNull BlockNBTComponent component, final String separator) {
+      return "block" + separator + component.nbtPath();
+    }
+
+    @Override
+    public String visitEntityNbt(final @NotNull EntityNBTComponent component, final String separator) {
+      return "entity" + separator + component.nbtPath();
+    }
+
+    @Override
+    public String visitStorageNbt(final @NotNull StorageNBTComponent component, final String separator) {
+      return "storage" + separator + component.nbtPath();
+    }
+  }
+}
@@ -25,12 +25,16 @@ package net.kyori.adventure.text;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.examination.string.MultiLineStringExaminer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 
 public final class TextAssertions {
@@ -73,4 +77,40 @@ public final class TextAssertions {
   private static final String prettyPrint(final Component component) {
     return component.examine(MultiLineStringExaminer.simpleEscaping()).collect(Collectors.joining("\n"));
   }
+
+  /**
+   * Creates a component which fails the test when it is compared for equality with another instance.
+   *
+   * @return the component
+   */
+  public static Component uncomparable() {
+    return new Uncomparable();
+  }
+
+  static final class Uncomparable extends AbstractComponent {
+    Uncomparable() {
+      super(Collections.emptyList(), Style.empty());
+    }
+
+    @Override
+    public @NotNull Component children(final @NotNull List<? extends ComponentLike> children) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Component style(final @NotNull Style style) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if (this == other) return true;
+      throw new AssertionError("compared for equality");
+    }
+
+    @Override
+    public int hashCode() {
+      return super.hashCode();
+    }
+  }
 }
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import static net.kyori.adventure.text.TextAssertions.assertDecorations;
 import static net.kyori.test.WeirdAssertions.assertAllEqualToEachOther;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -60,6 +61,15 @@ class TextComponentTest extends AbstractComponentTest<TextComponent, TextCompone
     return TextComponentImpl.SECTION_CHAR + String.valueOf(character);
   }
 
+  @Test
+  void testEqualsShortCircuitsOnHashMismatch() {
+    final Component c0 = Component.text("a").append(TextAssertions.uncomparable());
+    final Component c1 = Component.text("b").append(TextAssertions.uncomparable());
+    assertNotEquals(c0.hashCode(), c1.hashCode());
+    // the children would fail the test if they were compared
+    assertNotEquals(c0, c1);
+  }
+
   @Test
   void testOfChildren() {
     assertSame(Component.empty(), Component.textOfChildren()); // empty array
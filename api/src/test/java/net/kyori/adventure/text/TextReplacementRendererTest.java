@@ -23,6 +23,8 @@
  */
 package net.kyori.adventure.text;
 
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.regex.Pattern;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -30,6 +32,8 @@ import net.kyori.adventure.text.format.TextDecoration;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class TextReplacementRendererTest {
   @Test
@@ -322,4 +326,120 @@ class TextReplacementRendererTest {
 
     TextAssertions.assertEquals(expected, replaced);
   }
+
+  @Test
+  void testReplaceAnyLiteral() {
+    final Component original = Component.text("the cat ate the caterpillar");
+    final Component replaced = original.replaceText(c -> c.matchAnyLiteral("cat", "the", "caterpillar")
+      .replacement(match -> match.content(match.content().toUpperCase(Locale.ROOT))));
+
+    final Component expected = Component.text()
+      .append(
+        Component.text("THE"),
+        Component.text(" "),
+        Component.text("CAT"),
+        Component.text(" ate "),
+        Component.text("THE"),
+        Component.text(" "),
+        Component.text("CATERPILLAR")
+      )
+      .build();
+    TextAssertions.assertEquals(expected, replaced);
+  }
+
+  @Test
+  void testReplaceAnyPrefersLeftmostLongest() {
+    final Component replaced = Component.text("ushers abcde").replaceText(c -> c.matchAnyLiteral("he", "she", "hers", "ab", "bc", "abcd").replacement("_"));
+
+    final Component expected = Component.text()
+      .content("u")
+      .append(
+        Component.text("_"),
+        Component.text("rs "),
+        Component.text("_"),
+        Component.text("e")
+      )
+      .build();
+    TextAssertions.assertEquals(expected, replaced);
+  }
+
+  @Test
+  void testReplaceAnyLiteralsAndPatterns() {
+    final Component original = Component.text("ping 20ms to #red").append(Component.text(" and 5ms"));
+    final Component replaced = original.replaceText(c -> c.matchAny(Arrays.asList("ping", "red"), Arrays.asList(Pattern.compile("(\\d+)ms"), Pattern.compile("#(\\w+)")))
+      .replacement((result, builder) -> builder.content("<" + result.group(result.groupCount()) + ">")));
+
+    final Component expected = Component.text()
+      .append(
+        Component.text("<ping>"),
+        Component.text(" "),
+        Component.text("<20>"),
+        Component.text(" to "),
+        Component.text("<red>"),
+        Component.text(" and ").append(Component.text("<5>"))
+      )
+      .build();
+    TextAssertions.assertEquals(expected, replaced);
+  }
+
+  @Test
+  void testReplaceAnyKeepsPatternSemantics() {
+    final TextReplacementConfig config = TextReplacementConfig.builder()
+      .matchAny(Pattern.compile("(.)\\1"), Pattern.compile("hello", Pattern.CASE_INSENSITIVE), Pattern.compile("x y # trailing comment", Pattern.COMMENTS), Pattern.compile("a.b", Pattern.LITERAL))
+      .replacement("*")
+      .build();
+    final Component replaced = Component.text("aa HeLLo xy a.b axb ab").replaceText(config);
+
+    final Component expected = Component.text()
+      .append(
+        Component.text("*"),
+        Component.text(" "),
+        Component.text("*"),
+        Component.text(" "),
+        Component.text("*"),
+        Component.text(" "),
+        Component.text("*"),
+        Component.text(" axb ab")
+      )
+      .build();
+    TextAssertions.assertEquals(expected, replaced);
+    assertEquals(config.matchPattern().pattern(), config.toBuilder().build().matchPattern().pattern());
+  }
+
+  @Test
+  void testReplaceAnyOnceAcrossChildren() {
+    final Component original = Component.text().content("no match here").append(Component.text("first bad"), Component.text("second worse")).build();
+    final Component replaced = original.replaceText(c -> c.matchAnyLiteral("bad", "worse").once().replacement("***"));
+
+    final Component expected = Component.text()
+      .content("no match here")
+      .append(Component.text("first ").append(Component.text("***")), Component.text("second worse"))
+      .build();
+    TextAssertions.assertEquals(expected, replaced);
+  }
+
+  @Test
+  void testReplaceAnyRequiresInput() {
+    assertThrows(IllegalArgumentException.class, () -> TextReplacementConfig.builder().matchAnyLiteral());
+    assertThrows(IllegalArgumentException.class, () -> TextReplacementConfig.builder().matchAnyLiteral(""));
+  }
+
+  @Test
+  void testNoMatchReturnsSameInstance() {
+    final Component original = Component.text()
+      .content("nothing to see")
+      .hoverEvent(Component.text("here either"))
+      .append(Component.translatable("some.key", Component.text("or here")), Component.text("still nothing"))
+      .build();
+
+    assertSame(original, original.replaceText(c -> c.matchLiteral("absent").replacement("present")));
+    assertSame(original, original.replaceText(c -> c.match("abs[e]nt").replacement("present")));
+  }
+
+  @Test
+  void testLiteralReplacementFullMatchKeepsStyle() {
+    final Component replaced = Component.text("hello", NamedTextColor.RED).replaceText(c -> c.matchLiteral("hello").replacement("world"));
+
+    TextAssertions.assertEquals(Component.text("world", NamedTextColor.RED), replaced);
+  }
 }
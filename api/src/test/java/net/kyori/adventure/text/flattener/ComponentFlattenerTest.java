@@ -30,6 +30,7 @@ import java.util.Locale;
 import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.NBTComponent;
+import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
@@ -249,4 +250,59 @@ class ComponentFlattenerTest {
     // complex supertype
     assertThrows(IllegalArgumentException.class, () -> builder.complexMapper(Component.class, ($, $$) -> {}));
   }
+
+  @Test
+  void testComplexHandlerOutputPrecedesChildren() {
+    final ComponentFlattener flattener = ComponentFlattener.basic().toBuilder()
+      .complexMapper(TranslatableComponent.class, (component, accepter) -> {
+        accepter.accept(Component.text("[", NamedTextColor.GRAY));
+        accepter.accept(Component.text(component.key()).append(Component.text("!")));
+      })
+      .build();
+    final Component input = Component.text()
+      .content("a ")
+      .append(Component.translatable("b").append(Component.text(" c")), Component.text(" d"))
+      .build();
+
+    this.testFlatten(flattener, input)
+      .assertBalanced()
+      .assertPushesAndPops(7)
+      .assertContents("a ", "[", "b", "!", " c", " d");
+  }
+
+  @Test
+  void testUnknownMapper() {
+    final ComponentFlattener flattener = ComponentFlattener.builder()
+      .mapper(TextComponent.class, TextComponent::content)
+      .unknownMapper(component -> "?")
+      .build();
+
+    this.testFlatten(flattener, Component.text().content("press ").append(Component.keybind("key.jump")).build())
+      .assertBalanced()
+      .assertContents("press ", "?");
+  }
+
+  @Test
+  void testDeepTree() {
+    Component deep = Component.text("leaf");
+    for (int i = 0; i < 512; i++) {
+      deep = Component.text().append(deep).build();
+    }
+    final TrackingFlattener listener = this.testFlatten(ComponentFlattener.basic(), deep)
+      .assertBalanced()
+      .assertPushesAndPops(513);
+    assertEquals("leaf", String.join("", listener.strings));
+  }
+
+  @Test
+  void testTooDeepTreeIsBalanced() {
+    Component deep = Component.text("leaf");
+    for (int i = 0; i < 513; i++) {
+      deep = Component.text().append(deep).build();
+    }
+    final Component input = deep;
+    final TrackingFlattener listener = new TrackingFlattener();
+    assertThrows(IllegalStateException.class, () -> ComponentFlattener.basic().flatten(input, listener));
+    listener.assertBalanced();
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.flattener;
+
+import com.google.common.testing.EqualsTester;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StyledTextTest {
+  private static final Component INPUT = Component.text()
+    .content("Hello ")
+    .color(NamedTextColor.RED)
+    .append(Component.text("bold", Style.style(TextDecoration.BOLD)))
+    .append(Component.text(" world"))
+    .append(Component.text("", NamedTextColor.BLUE))
+    .append(Component.text("!", NamedTextColor.RED))
+    .build();
+
+  @Test
+  void testSpans() {
+    final StyledText text = ComponentFlattener.basic().styledText(INPUT);
+    assertEquals("Hello bold world!", text.text());
+    assertEquals(17, text.length());
+    // the empty blue component adds no span, and the trailing red text joins the preceding run
+    assertEquals(3, text.spanCount());
+    assertEquals(6, text.spanStart(1));
+    assertEquals(10, text.spanEnd(1));
+    assertEquals(Style.style(NamedTextColor.RED), text.spanStyle(0));
+    assertEquals(Style.style(NamedTextColor.RED, TextDecoration.BOLD), text.spanStyle(1));
+    assertEquals(Style.style(NamedTextColor.RED), text.spanStyle(2));
+    assertEquals(0, text.spanAt(0));
+    assertEquals(0, text.spanAt(5));
+    assertEquals(1, text.spanAt(6));
+    assertEquals(2, text.spanAt(16));
+    assertThrows(IndexOutOfBoundsException.class, () -> text.spanAt(17));
+  }
+
+  @Test
+  void testSubstring() {
+    final StyledText text = ComponentFlattener.basic().styledText(INPUT);
+    final StyledText middle = text.substring(8, 13);
+    assertEquals("ld wo", middle.text());
+    assertEquals(2, middle.spanCount());
+    assertEquals(2, middle.spanEnd(0));
+    assertEquals(Style.style(NamedTextColor.RED, TextDecoration.BOLD), middle.spanStyle(0));
+    assertSame(text, text.substring(0, text.length()));
+    assertSame(StyledText.empty(), text.substring(4, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> text.substring(3, 18));
+  }
+
+  @Test
+  void testTruncate() {
+    final StyledText text = ComponentFlattener.basic().styledText(INPUT);
+    assertSame(text, text.truncate(100));
+    final Component expected = Component.text()
+      .append(Component.text("Hello ", NamedTextColor.RED))
+      .append(Component.text("bo", NamedTextColor.RED, TextDecoration.BOLD))
+      .build();
+    assertEquals(expected, text.truncate(8).asComponent());
+  }
+
+  @Test
+  void testFlattenReplaysSpans() {
+    final StyledText text = ComponentFlattener.basic().styledText(INPUT);
+    final List<String> parts = new ArrayList<>();
+    text.flatten(parts::add);
+    assertEquals(Arrays.asList("Hello ", "bold", " world!"), parts);
+    assertEquals(text, ComponentFlattener.basic().styledText(text.asComponent()));
+  }
+
+  @Test
+  void testEquality() {
+    new EqualsTester()
+      .addEqualityGroup(
+        StyledText.empty(),
+        ComponentFlattener.basic().styledText(Component.empty()),
+        ComponentFlattener.basic().styledText(Component.text("", NamedTextColor.RED))
+      )
+      .addEqualityGroup(
+        ComponentFlattener.basic().styledText(Component.text("a", NamedTextColor.RED)),
+        ComponentFlattener.basic().styledText(Component.text().color(NamedTextColor.RED).append(Component.text("a")).build())
+      )
+      .addEqualityGroup(ComponentFlattener.basic().styledText(Component.text("a")))
+      .testEquals();
+  }
+}
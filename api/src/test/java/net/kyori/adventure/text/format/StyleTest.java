@@ -34,6 +34,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextAssertions;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,7 @@ import static net.kyori.adventure.text.TextAssertions.assertDecorations;
 import static net.kyori.test.WeirdAssertions.doWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -70,6 +72,14 @@ class StyleTest {
     assertNull(s0.font());
   }
 
+  @Test
+  void testRemovingEverythingSharesEmpty() {
+    assertSame(Style.empty(), Style.style(NamedTextColor.RED).color(null));
+    assertSame(Style.empty(), Style.style(TextDecoration.BOLD).decoration(TextDecoration.BOLD, TextDecoration.State.NOT_SET));
+    assertSame(Style.empty(), Style.style().insertion("abc").build().insertion(null));
+    assertTrue(Style.style(NamedTextColor.RED).color(null).isEmpty());
+  }
+
   @Test
   void testOfApplicables() {
     final Style s0 = Style.style(
@@ -283,6 +293,30 @@ class StyleTest {
     assertEquals(NamedTextColor.BLACK, s2.color());
   }
 
+  @Test
+  void testMergeStrategy_decorations() {
+    final Style s0 = Style.style(TextDecoration.BOLD.withState(true), TextDecoration.ITALIC.withState(false));
+    final Style s1 = Style.style(TextDecoration.BOLD.withState(false), TextDecoration.UNDERLINED.withState(true));
+    final Style always = s0.merge(s1, Style.Merge.Strategy.ALWAYS);
+    assertEquals(TextDecoration.State.FALSE, always.decoration(TextDecoration.BOLD));
+    assertEquals(TextDecoration.State.FALSE, always.decoration(TextDecoration.ITALIC));
+    assertEquals(TextDecoration.State.TRUE, always.decoration(TextDecoration.UNDERLINED));
+    assertEquals(TextDecoration.State.NOT_SET, always.decoration(TextDecoration.OBFUSCATED));
+    final Style ifAbsent = s0.merge(s1, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+    assertEquals(TextDecoration.State.TRUE, ifAbsent.decoration(TextDecoration.BOLD));
+    assertEquals(TextDecoration.State.FALSE, ifAbsent.decoration(TextDecoration.ITALIC));
+    assertEquals(TextDecoration.State.TRUE, ifAbsent.decoration(TextDecoration.UNDERLINED));
+    assertEquals(ifAbsent, s0.toBuilder().merge(s1, Style.Merge.Strategy.IF_ABSENT_ON_TARGET).build());
+    assertEquals(always, s0.toBuilder().merge(s1, Style.Merge.Strategy.ALWAYS).build());
+  }
+
+  @Test
+  void testMergeUnchangedReturnsSelf() {
+    final Style s0 = Style.style(NamedTextColor.RED, TextDecoration.BOLD);
+    assertSame(s0, s0.merge(Style.style(NamedTextColor.BLUE), Style.Merge.Strategy.IF_ABSENT_ON_TARGET));
+    assertSame(s0, s0.merge(Style.style(NamedTextColor.BLUE), Style.Merge.DECORATIONS));
+  }
+
   @Test
   void testBuilderColorIfAbsent() {
     assertEquals(NamedTextColor.GREEN, Style.style().colorIfAbsent(NamedTextColor.GREEN).build().color());
@@ -346,6 +380,25 @@ class StyleTest {
     });
   }
 
+  @Test
+  void testHashCodeIsStable() {
+    final Style s0 = Style.style(NamedTextColor.RED, TextDecoration.BOLD).insertion("a");
+    final Style s1 = Style.style().color(NamedTextColor.RED).decorate(TextDecoration.BOLD).insertion("a").build();
+    final int hash = s0.hashCode();
+    assertEquals(hash, s0.hashCode());
+    assertEquals(hash, s1.hashCode());
+    assertEquals(s0, s1);
+  }
+
+  @Test
+  void testEqualsShortCircuitsOnHashMismatch() {
+    final Style s0 = Style.style().hoverEvent(TextAssertions.uncomparable()).insertion("a").build();
+    final Style s1 = Style.style().hoverEvent(TextAssertions.uncomparable()).insertion("b").build();
+    assertNotEquals(s0.hashCode(), s1.hashCode());
+    // the hover events would fail the test if they were compared
+    assertNotEquals(s0, s1);
+  }
+
   @Test
   void testEquals() {
     new EqualsTester()
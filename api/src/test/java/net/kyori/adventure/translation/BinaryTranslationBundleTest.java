@@ -0,0 +1,114 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Locale;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTranslationBundleTest {
+  private static final Key NAME = Key.key("adventure", "binary_test");
+
+  private static BinaryTranslationBundle compile() throws IOException {
+    final Path path = Files.createTempDirectory("adventure-translations").resolve("bundle.bin");
+    BinaryTranslationBundle.compile(ImmutableMap.of(
+      Locale.US, ImmutableMap.of("greeting", "Hello {0}!", "Aa", "first", "BB", "second"),
+      Locale.GERMAN, ImmutableMap.of("greeting", "Hallo {0}!", "only.german", "Nur Deutsch")
+    ), path);
+    return BinaryTranslationBundle.open(NAME, path);
+  }
+
+  @Test
+  void testTranslate() throws IOException {
+    final BinaryTranslationBundle bundle = compile();
+    assertEquals(ImmutableSet.of(Locale.US, Locale.GERMAN), bundle.locales());
+    assertEquals(4, bundle.size());
+    assertEquals(new MessageFormat("Hello {0}!", Locale.US), bundle.translate("greeting", Locale.US));
+    assertEquals(new MessageFormat("Hallo {0}!", Locale.GERMAN), bundle.translate("greeting", Locale.GERMANY)); // without country
+    assertEquals(new MessageFormat("Hello {0}!", Locale.US), bundle.translate("greeting", Locale.FRANCE)); // default locale
+    assertEquals(new MessageFormat("Nur Deutsch", Locale.GERMAN), bundle.translate("only.german", Locale.GERMAN));
+    assertNull(bundle.translate("only.german", Locale.US));
+    assertNull(bundle.translate("missing", Locale.US));
+    assertFalse(bundle.contains("missing"));
+    assertTrue(bundle.contains("only.german"));
+    assertSame(bundle.translateTemplate("greeting", Locale.US), bundle.translateTemplate("greeting", Locale.US));
+  }
+
+  @Test
+  void testTranslateHashCollision() throws IOException {
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+    final BinaryTranslationBundle bundle = compile();
+    assertEquals(new MessageFormat("first", Locale.US), bundle.translate("Aa", Locale.US));
+    assertEquals(new MessageFormat("second", Locale.US), bundle.translate("BB", Locale.US));
+    assertNull(bundle.translate("C#", Locale.US)); // also collides, but is missing
+  }
+
+  @Test
+  void testDefaultLocale() throws IOException {
+    final BinaryTranslationBundle bundle = compile();
+    bundle.defaultLocale(Locale.GERMAN);
+    assertEquals(new MessageFormat("Hallo {0}!", Locale.GERMAN), bundle.translate("greeting", Locale.FRANCE));
+  }
+
+  @Test
+  void testRender() throws IOException {
+    final TranslatableComponentRenderer<Locale> renderer = TranslatableComponentRenderer.usingTranslationSource(compile());
+    assertEquals(
+      Component.text().append(Component.text("Hallo "), Component.text("kashike"), Component.text("!")).build(),
+      renderer.render(Component.translatable("greeting", Component.text("kashike")), Locale.GERMAN)
+    );
+  }
+
+  @Test
+  void testCompileDirectory() throws IOException {
+    final Path directory = Files.createTempDirectory("adventure-translations");
+    Files.write(directory.resolve("messages_en_US.properties"), "snowperson=☃ isn't {0}".getBytes(StandardCharsets.UTF_8));
+    final Path path = directory.resolve("messages.bin");
+    BinaryTranslationBundle.compile(directory, "messages", true, path);
+    assertEquals(new MessageFormat("☃ isn''t {0}", Locale.US), BinaryTranslationBundle.open(NAME, path).translate("snowperson", Locale.US));
+  }
+
+  @Test
+  void testOpenInvalid() throws IOException {
+    final Path path = Files.createTempFile("adventure-translations", ".bin");
+    Files.write(path, "not a bundle at all".getBytes(StandardCharsets.UTF_8));
+    assertThrows(IOException.class, () -> BinaryTranslationBundle.open(NAME, path));
+  }
+}
@@ -25,6 +25,8 @@ package net.kyori.adventure.translation;
 
 import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -36,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -78,6 +81,75 @@ class GlobalTranslatorTest {
     assertEquals(new MessageFormat("Hello {0}!"), GlobalTranslator.get().translate("testDummy", Locale.US));
   }
 
+  @Test
+  void testTranslateAfterSourceChanged() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_changing"));
+    GlobalTranslator.get().addSource(registry);
+    try {
+      assertNull(GlobalTranslator.get().translate("testChanging", Locale.US));
+      registry.register("testChanging", Locale.US, new MessageFormat("Changed"));
+      assertEquals(new MessageFormat("Changed"), GlobalTranslator.get().translate("testChanging", Locale.US));
+      registry.unregister("testChanging");
+      assertNull(GlobalTranslator.get().translate("testChanging", Locale.US));
+    } finally {
+      GlobalTranslator.get().removeSource(registry);
+    }
+  }
+
+  @Test
+  void testTranslateRoutesPerLocale() {
+    GlobalTranslator.get().addSource(DummyTranslator.INSTANCE);
+    assertEquals(new MessageFormat("Hello {0}!"), GlobalTranslator.get().translate("testDummy", Locale.US));
+    assertNull(GlobalTranslator.get().translate("testDummy", Locale.GERMANY));
+    assertNull(GlobalTranslator.get().translate("testDummy", Locale.GERMANY));
+    assertEquals(new MessageFormat("Hello {0}!"), GlobalTranslator.get().translate("testDummy", Locale.US));
+  }
+
+  @Test
+  void testCachingRenderer() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "test_caching"));
+    registry.register("testCaching", Locale.US, new MessageFormat("First"));
+    GlobalTranslator.get().addSource(registry);
+    try {
+      final Component component = Component.translatable("testCaching");
+      final Component first = GlobalTranslator.cachingRenderer().render(component, Locale.US);
+      assertEquals(Component.text("First"), first);
+      assertSame(first, GlobalTranslator.cachingRenderer().render(Component.translatable("testCaching"), Locale.US));
+
+      registry.unregister("testCaching");
+      registry.register("testCaching", Locale.US, new MessageFormat("Second"));
+      assertEquals(Component.text("Second"), GlobalTranslator.cachingRenderer().render(component, Locale.US));
+    } finally {
+      GlobalTranslator.get().removeSource(registry);
+    }
+  }
+
+  @Test
+  void testTranslateFromSourceWhichDoesNotNotify() {
+    final Map<String, MessageFormat> formats = new ConcurrentHashMap<>();
+    final Translator translator = new Translator() {
+      @Override
+      public @NotNull Key name() {
+        return Key.key("adventure", "test_silent");
+      }
+
+      @Override
+      public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+        return formats.get(key);
+      }
+    };
+    GlobalTranslator.get().addSource(translator);
+    try {
+      assertNull(GlobalTranslator.get().translate("testSilent", Locale.US));
+      assertEquals(Component.translatable("testSilent"), GlobalTranslator.cachingRenderer().render(Component.translatable("testSilent"), Locale.US));
+      formats.put("testSilent", new MessageFormat("Silent"));
+      assertEquals(new MessageFormat("Silent"), GlobalTranslator.get().translate("testSilent", Locale.US));
+      assertEquals(Component.text("Silent"), GlobalTranslator.cachingRenderer().render(Component.translatable("testSilent"), Locale.US));
+    } finally {
+      GlobalTranslator.get().removeSource(translator);
+    }
+  }
+
   static class DummyTranslator implements Translator {
     static final DummyTranslator INSTANCE = new DummyTranslator();
 
@@ -24,12 +24,15 @@
 package net.kyori.adventure.translation;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.testing.EqualsTester;
 import java.text.MessageFormat;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
@@ -39,8 +42,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TranslationRegistryTest {
   static final TranslationRegistry REGISTRY = TranslationRegistry.create(Key.key("adventure", "test"));
@@ -75,6 +81,55 @@ class TranslationRegistryTest {
     assertEquals(expected, REGISTRY.translate("test", Locale.US));
   }
 
+  @Test
+  void testTranslateInterleavedWithRegister() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "interleaved"));
+    registry.register("a", Locale.US, new MessageFormat("a"));
+    assertEquals(new MessageFormat("a"), registry.translate("a", Locale.FRANCE));
+    assertNull(registry.translate("b", Locale.FRANCE));
+
+    registry.register("b", Locale.FRENCH, new MessageFormat("b"));
+    assertEquals(new MessageFormat("b"), registry.translate("b", Locale.FRANCE)); // "fr_FR" falls back to "fr"
+    assertEquals(new MessageFormat("a"), registry.translate("a", Locale.FRANCE));
+    assertNull(registry.translate("b", Locale.GERMANY));
+
+    registry.register("a", Locale.FRANCE, new MessageFormat("a fr"));
+    assertEquals(new MessageFormat("a fr"), registry.translate("a", Locale.FRANCE));
+    assertEquals(new MessageFormat("a"), registry.translate("a", Locale.FRENCH));
+
+    registry.unregister("a");
+    assertNull(registry.translate("a", Locale.FRANCE));
+    assertNull(registry.translate("a", Locale.GERMANY));
+  }
+
+  @Test
+  void testTranslateCountryMiss() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "country_miss"));
+    registry.register("colour", Locale.ENGLISH, new MessageFormat("colour"));
+    registry.register("colour", Locale.US, new MessageFormat("color"));
+    final Locale australia = new Locale("en", "AU");
+    // repeated lookups for a locale without translations of its own resolve through its language every time
+    for (int i = 0; i < 3; i++) {
+      assertEquals(new MessageFormat("colour"), registry.translate("colour", australia));
+      assertNull(registry.translate("flavour", australia));
+    }
+
+    // registering the country itself replaces the remembered route
+    registry.register("colour", australia, new MessageFormat("colour, mate"));
+    assertEquals(new MessageFormat("colour, mate"), registry.translate("colour", australia));
+    assertEquals(new MessageFormat("color"), registry.translate("colour", Locale.US));
+  }
+
+  @Test
+  void testRegisterAllInvalidFormatLeavesNothingBehind() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "invalid_format"));
+    assertThrows(IllegalArgumentException.class, () -> registry.registerAll(Locale.GERMAN, ImmutableSet.of("valid", "broken"), key -> new MessageFormat(key.equals("broken") ? "{oops" : "Gut", Locale.GERMAN)));
+    assertTrue(registry.contains("valid"));
+    assertFalse(registry.contains("broken"));
+    assertNull(registry.translate("broken", Locale.GERMAN));
+    assertEquals(new MessageFormat("Gut", Locale.GERMAN), registry.translate("valid", Locale.GERMANY));
+  }
+
   @Test
   void testTranslate_escapeQuotes() {
     assertEquals(new MessageFormat("{0} and ''{1}'' are cats.", Locale.US), REGISTRY.translate("cats", Locale.US));
@@ -212,4 +267,68 @@ class TranslationRegistryTest {
     REGISTRY.unregister("test");
     assertNull(REGISTRY.translate("test", Locale.US));
   }
+
+  @Test
+  void testRenderPreservesIdentity() {
+    final Component plain = Component.text("Hello ").append(Component.text("world", NamedTextColor.RED)).hoverEvent(Component.text("hover"));
+    assertSame(plain, RENDERER.render(plain, Locale.US));
+
+    final Component untranslated = Component.translatable("unknown.key", Component.text("arg")).append(Component.text("child"));
+    assertSame(untranslated, RENDERER.render(untranslated, Locale.US));
+  }
+
+  @Test
+  void testRenderSubclassMergeStyleOnUntranslatedKeys() {
+    final TranslatableComponentRenderer<Locale> renderer = new TranslatableComponentRenderer<Locale>() {
+      @Override
+      protected MessageFormat translate(final String key, final Locale context) {
+        return REGISTRY.translate(key, context);
+      }
+
+      @Override
+      protected <B extends ComponentBuilder<?, ?>> void mergeStyle(final Component component, final B builder, final Locale context) {
+        super.mergeStyle(component, builder, context);
+        builder.color(NamedTextColor.RED);
+      }
+    };
+    assertEquals(
+      Component.translatable("unknown.key", NamedTextColor.RED, Component.text("arg", NamedTextColor.RED)),
+      renderer.render(Component.translatable("unknown.key", Component.text("arg")), Locale.US)
+    );
+  }
+
+  @Test
+  void testRenderSubclassHooksOnPlainComponents() {
+    final TranslatableComponentRenderer<Locale> renderer = new TranslatableComponentRenderer<Locale>() {
+      @Override
+      protected MessageFormat translate(final String key, final Locale context) {
+        return REGISTRY.translate(key, context);
+      }
+
+      @Override
+      protected Component renderText(final TextComponent component, final Locale context) {
+        return super.renderText(component.content(component.content().toUpperCase(Locale.ROOT)), context);
+      }
+    };
+    assertEquals(Component.text("HELLO").append(Component.text("WORLD")), renderer.render(Component.text("hello").append(Component.text("world")), Locale.US));
+  }
+
+  @Test
+  void testTranslateAfterChanges() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "changes"));
+    final MessageFormat us = new MessageFormat("color", Locale.US);
+    final MessageFormat uk = new MessageFormat("colour", Locale.UK);
+    registry.register("color", Locale.US, us);
+    assertEquals(us, registry.translate("color", Locale.UK));
+
+    registry.register("color", Locale.UK, uk);
+    assertEquals(uk, registry.translate("color", Locale.UK));
+    assertEquals(us, registry.translate("color", Locale.GERMANY));
+
+    registry.defaultLocale(Locale.UK);
+    assertEquals(uk, registry.translate("color", Locale.GERMANY));
+
+    registry.unregister("color");
+    assertNull(registry.translate("color", Locale.UK));
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.translation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Locale;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TranslationTemplateTest {
+  @Test
+  void testCompileWithoutArguments() {
+    final TranslationTemplate template = TranslationTemplate.compile(new MessageFormat("It''s a test.", Locale.US));
+    assertEquals(0, template.slots());
+    assertEquals("It's a test.", template.literal(0));
+  }
+
+  @Test
+  void testCompileWithArguments() {
+    final TranslationTemplate template = TranslationTemplate.compile(new MessageFormat("{1} and ''{0}'' are {1,number} cats.", Locale.US));
+    assertEquals(3, template.slots());
+    assertEquals("", template.literal(0));
+    assertEquals(1, template.argument(0));
+    assertEquals(" and '", template.literal(1));
+    assertEquals(0, template.argument(1));
+    assertEquals("' are ", template.literal(2));
+    assertEquals(1, template.argument(2));
+    assertEquals(" cats.", template.literal(3));
+  }
+
+  @Test
+  void testDefaultTranslateTemplateCompilesOnce() {
+    final MessageFormat format = new MessageFormat("{0} is {1}", Locale.US);
+    final Translator translator = new Translator() {
+      @Override
+      public @NotNull Key name() {
+        return Key.key("adventure", "shared_format");
+      }
+
+      @Override
+      public @Nullable MessageFormat translate(final @NotNull String key, final @NotNull Locale locale) {
+        return format;
+      }
+    };
+    final TranslationTemplate template = translator.translateTemplate("shared", Locale.US);
+    assertSame(template, translator.translateTemplate("shared", Locale.US));
+    assertSame(template, TranslationTemplate.compile(format));
+  }
+
+  @Test
+  void testRenderMissingArguments() {
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "template_test"));
+    registry.register("pair", Locale.US, TranslationTemplate.compile(new MessageFormat("{0} and {1}", Locale.US)));
+    final TranslatableComponentRenderer<Locale> renderer = TranslatableComponentRenderer.usingTranslationSource(registry);
+
+    assertEquals(Component.text("{0} and {1}"), renderer.render(Component.translatable("pair"), Locale.US));
+    assertEquals(
+      Component.text().append(Component.text("a"), Component.text(" and {1}")).build(),
+      renderer.render(Component.translatable("pair", Component.text("a")), Locale.US)
+    );
+  }
+
+  @Test
+  void testLazy() {
+    final TranslationTemplate lazy = TranslationTemplate.lazy("{0} and {1}", Locale.US);
+    final TranslationTemplate compiled = TranslationTemplate.compile(new MessageFormat("{0} and {1}", Locale.US));
+    assertEquals(compiled, lazy);
+    assertEquals(lazy, compiled);
+    assertEquals(2, lazy.slots());
+    assertEquals(" and ", lazy.literal(1));
+  }
+
+  @Test
+  void testLazyInvalidPattern() {
+    final TranslationTemplate lazy = TranslationTemplate.lazy("{oops", Locale.US);
+    assertThrows(IllegalArgumentException.class, lazy::slots);
+  }
+
+  @Test
+  void testRegisterAllLazilyFromDirectory() throws IOException {
+    final Path directory = Files.createTempDirectory("adventure-translations");
+    Files.write(directory.resolve("messages.properties"), "greeting=Hello\nfarewell=Bye".getBytes(StandardCharsets.UTF_8));
+    Files.write(directory.resolve("messages_de.properties"), "greeting=Hallo {0}".getBytes(StandardCharsets.UTF_8));
+    Files.write(directory.resolve("messages_en_GB.properties"), "greeting=Hello {0}, it''s ☃".getBytes(StandardCharsets.UTF_8));
+
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "lazy_test"));
+    registry.registerAllLazily(directory, "messages", false);
+
+    assertEquals(new MessageFormat("Hallo {0}", Locale.GERMAN), registry.translate("greeting", Locale.GERMANY));
+    assertEquals(new MessageFormat("Hello {0}, it''s ☃", Locale.UK), registry.translate("greeting", Locale.UK));
+    assertEquals(new MessageFormat("Bye", Locale.UK), registry.translate("farewell", Locale.UK));
+  }
+
+  @Test
+  void testRegisterAllLazilyFromMissingDirectory() throws IOException {
+    final Path directory = Files.createTempDirectory("adventure-translations").resolve("missing");
+    final TranslationRegistry registry = TranslationRegistry.create(Key.key("adventure", "lazy_missing_test"));
+    assertThrows(IOException.class, () -> registry.registerAllLazily(directory, "messages", false));
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Whole-file asynchronous reads and atomic writes, using {@link AsynchronousFileChannel}.
+ *
+ * <p>Opening and creating files is done on the provided executor, so that callers never block on the file system.</p>
+ */
+final class AsyncFileIO {
+  private AsyncFileIO() {
+  }
+
+  static CompletableFuture<byte[]> read(final Path path, final Executor executor) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+      } catch (final IOException ex) {
+        throw new CompletionException(ex);
+      }
+    }, executor).thenCompose(channel -> {
+      final CompletableFuture<byte[]> result = new CompletableFuture<>();
+      try {
+        final long size = channel.size();
+        if (size > Integer.MAX_VALUE - 8) {
+          throw new IOException("File " + path + " is too large to read: " + size + " bytes");
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        channel.read(buffer, 0, buffer, new CompletionHandler<Integer, ByteBuffer>() {
+          @Override
+          public void completed(final Integer read, final ByteBuffer buffer) {
+            if (read >= 0 && buffer.hasRemaining()) {
+              channel.read(buffer, buffer.position(), buffer, this);
+              return;
+            }
+            close(channel, result);
+            result.complete(buffer.position() == buffer.capacity() ? buffer.array() : Arrays.copyOf(buffer.array(), buffer.position()));
+          }
+
+          @Override
+          public void failed(final Throwable exc, final ByteBuffer buffer) {
+            close(channel, result);
+            result.completeExceptionally(exc);
+          }
+        });
+      } catch (final IOException ex) {
+        close(channel, result);
+        result.completeExceptionally(ex);
+      }
+      return result;
+    });
+  }
+
+  static CompletableFuture<Void> write(final Path path, final byte[] data, final Executor executor) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return open(path);
+      } catch (final IOException ex) {
+        throw new CompletionException(ex);
+      }
+    }, executor).thenCompose(pending -> {
+      final CompletableFuture<Void> result = new CompletableFuture<>();
+      final ByteBuffer buffer = ByteBuffer.wrap(data);
+      pending.channel.write(buffer, 0, buffer, new CompletionHandler<Integer, ByteBuffer>() {
+        @Override
+        public void completed(final Integer written, final ByteBuffer buffer) {
+          if (buffer.hasRemaining()) {
+            pending.channel.write(buffer, buffer.position(), buffer, this);
+            return;
+          }
+          try {
+            pending.channel.force(true);
+            pending.channel.close();
+            move(pending.temp, path);
+            result.complete(null);
+          } catch (final IOException ex) {
+            this.failed(ex, buffer);
+          }
+        }
+
+        @Override
+        public void failed(final Throwable exc, final ByteBuffer buffer) {
+          try {
+            pending.channel.close();
+            Files.deleteIfExists(pending.temp);
+          } catch (final IOException ex) {
+            exc.addSuppressed(ex);
+          }
+          result.completeExceptionally(exc);
+        }
+      });
+      return result;
+    });
+  }
+
+  // creates the file the data is written to before it replaces the target, next to the target so the move can be atomic
+  private static Pending open(final Path path) throws IOException {
+    final Path parent = path.toAbsolutePath().getParent();
+    final String name = path.getFileName().toString();
+    for (int attempt = 0; ; attempt++) {
+      final Path temp = parent.resolve("." + name + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+      final AsynchronousFileChannel channel;
+      try {
+        // not created through Files#createTempFile, which would restrict the target to its owner once moved
+        channel = AsynchronousFileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+      } catch (final FileAlreadyExistsException ex) {
+        if (attempt < 8) continue;
+        throw ex;
+      }
+      try {
+        copyPermissions(path, temp);
+        return new Pending(temp, channel);
+      } catch (final IOException | RuntimeException ex) {
+        try {
+          channel.close();
+          Files.deleteIfExists(temp);
+        } catch (final IOException suppressed) {
+          ex.addSuppressed(suppressed);
+        }
+        throw ex;
+      }
+    }
+  }
+
+  private static void copyPermissions(final Path source, final Path target) throws IOException {
+    if (!Files.exists(source)) return;
+    final PosixFileAttributeView view = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+    if (view != null) {
+      Files.setPosixFilePermissions(target, view.readAttributes().permissions());
+    }
+  }
+
+  private static void move(final Path source, final Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException ex) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void close(final AsynchronousFileChannel channel, final CompletableFuture<?> result) {
+    try {
+      channel.close();
+    } catch (final IOException ex) {
+      result.completeExceptionally(ex);
+    }
+  }
+
+  static final class Pending {
+    final Path temp;
+    final AsynchronousFileChannel channel;
+
+    Pending(final Path temp, final AsynchronousFileChannel channel) {
+      this.temp = temp;
+      this.channel = channel;
+    }
+  }
+}
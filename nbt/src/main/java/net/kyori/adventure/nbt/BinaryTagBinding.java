@@ -0,0 +1,103 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Maps a Java type directly to and from the binary form of a {@link CompoundBinaryTag}.
+ *
+ * <p>Bindings read from and write to the binary stream directly, without creating an
+ * intermediate {@link CompoundBinaryTag}.</p>
+ *
+ * <p>Bindings created by {@link #of(Class)} map each component of a record, or each non-static,
+ * non-transient field of any other class, to a key with the same name. The following value types
+ * are supported:</p>
+ * <ul>
+ *   <li>{@code boolean}, {@code byte}, {@code short}, {@code int}, {@code long}, {@code float},
+ *   {@code double} and their boxed forms, with {@code boolean} stored as a byte</li>
+ *   <li>{@link String}, and enums, stored by name</li>
+ *   <li>{@code byte[]}, {@code int[]} and {@code long[]}</li>
+ *   <li>any {@link BinaryTag} type</li>
+ *   <li>{@link java.util.List}s of any supported type</li>
+ *   <li>any other class that could itself be bound, stored as a nested compound</li>
+ * </ul>
+ *
+ * <p>{@code null} values are omitted when writing. Keys absent when reading are left at their
+ * default, which is the field initializer for classes and {@code null}/zero for records. Unknown
+ * keys are skipped.</p>
+ *
+ * @param <T> the bound type
+ * @since 4.10.0
+ */
+public interface BinaryTagBinding<T> {
+  /**
+   * Gets a binding for a record, or a class with a no-argument constructor.
+   *
+   * <p>Bindings are computed once per class and cached.</p>
+   *
+   * @param type the type
+   * @param <T> the bound type
+   * @return a binding
+   * @throws IllegalArgumentException if the type cannot be bound
+   * @since 4.10.0
+   */
+  @SuppressWarnings("unchecked")
+  static <T> @NotNull BinaryTagBinding<T> of(final @NotNull Class<T> type) {
+    return (BinaryTagBinding<T>) BinaryTagBindingImpl.BINDINGS.get(requireNonNull(type, "type"));
+  }
+
+  /**
+   * Gets the type this binding is for.
+   *
+   * @return the bound type
+   * @since 4.10.0
+   */
+  @NotNull Class<T> type();
+
+  /**
+   * Reads the contents of a compound tag from {@code input}, up to and including its end tag.
+   *
+   * @param input the input
+   * @return the value
+   * @throws IOException if an exception was encountered while reading the value
+   * @since 4.10.0
+   */
+  @NotNull T read(final @NotNull DataInput input) throws IOException;
+
+  /**
+   * Writes {@code value} as the contents of a compound tag to {@code output}, including its end tag.
+   *
+   * @param value the value
+   * @param output the output
+   * @throws IOException if an exception was encountered while writing the value
+   * @since 4.10.0
+   */
+  void write(final @NotNull T value, final @NotNull DataOutput output) throws IOException;
+}
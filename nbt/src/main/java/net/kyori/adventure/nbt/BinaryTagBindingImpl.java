@@ -0,0 +1,733 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+abstract class BinaryTagBindingImpl<T> implements BinaryTagBinding<T> {
+  static final ClassValue<BinaryTagBindingImpl<?>> BINDINGS = new ClassValue<BinaryTagBindingImpl<?>>() {
+    @Override
+    protected BinaryTagBindingImpl<?> computeValue(final Class<?> type) {
+      return create(type);
+    }
+  };
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+  // records are only available on Java 16+, so are accessed reflectively
+  private static final @Nullable Method IS_RECORD;
+  private static final @Nullable Method GET_RECORD_COMPONENTS;
+  private static final @Nullable Method RECORD_COMPONENT_NAME;
+  private static final @Nullable Method RECORD_COMPONENT_TYPE;
+  private static final @Nullable Method RECORD_COMPONENT_GENERIC_TYPE;
+  private static final @Nullable Method RECORD_COMPONENT_ACCESSOR;
+
+  static {
+    Method isRecord = null;
+    Method getRecordComponents = null;
+    Method name = null;
+    Method type = null;
+    Method genericType = null;
+    Method accessor = null;
+    try {
+      isRecord = Class.class.getMethod("isRecord");
+      getRecordComponents = Class.class.getMethod("getRecordComponents");
+      final Class<?> recordComponent = Class.forName("java.lang.reflect.RecordComponent");
+      name = recordComponent.getMethod("getName");
+      type = recordComponent.getMethod("getType");
+      genericType = recordComponent.getMethod("getGenericType");
+      accessor = recordComponent.getMethod("getAccessor");
+    } catch (final ReflectiveOperationException ignored) {
+      isRecord = null;
+    }
+    IS_RECORD = isRecord;
+    GET_RECORD_COMPONENTS = getRecordComponents;
+    RECORD_COMPONENT_NAME = name;
+    RECORD_COMPONENT_TYPE = type;
+    RECORD_COMPONENT_GENERIC_TYPE = genericType;
+    RECORD_COMPONENT_ACCESSOR = accessor;
+  }
+
+  private final Class<T> type;
+  private final String[] names;
+  private final Codec[] codecs;
+  private final MethodHandle[] getters;
+  private final Map<String, Integer> indexes;
+
+  BinaryTagBindingImpl(final Class<T> type, final String[] names, final Codec[] codecs, final MethodHandle[] getters) {
+    this.type = type;
+    this.names = names;
+    this.codecs = codecs;
+    this.getters = getters;
+    this.indexes = new HashMap<>(names.length * 2);
+    for (int i = 0; i < names.length; i++) {
+      this.indexes.put(names[i], i);
+    }
+  }
+
+  @Override
+  public @NotNull Class<T> type() {
+    return this.type;
+  }
+
+  @Override
+  @SuppressWarnings("try")
+  public @NotNull T read(final @NotNull DataInput input) throws IOException {
+    try(final BinaryTagScope ignored = TrackingDataInput.enter(input)) {
+      final Object state = this.begin();
+      byte id;
+      while ((id = input.readByte()) != BinaryTagTypes.END.id()) {
+        final String key = input.readUTF();
+        final @Nullable Integer index = this.indexes.get(key);
+        if (index == null) {
+          BinaryTagType.of(id).read(input); // skip unknown keys
+        } else {
+          this.set(state, index, this.codecs[index].read(id, input));
+        }
+      }
+      return this.finish(state);
+    }
+  }
+
+  @Override
+  public void write(final @NotNull T value, final @NotNull DataOutput output) throws IOException {
+    for (int i = 0; i < this.names.length; i++) {
+      final Object field;
+      try {
+        field = (Object) this.getters[i].invokeExact((Object) value);
+      } catch (final Throwable t) {
+        throw rethrow(t);
+      }
+      if (field != null) {
+        final Codec codec = this.codecs[i];
+        output.writeByte(codec.id(field));
+        output.writeUTF(this.names[i]);
+        codec.write(field, output);
+      }
+    }
+    output.writeByte(BinaryTagTypes.END.id());
+  }
+
+  abstract Object begin() throws IOException;
+
+  abstract void set(final Object state, final int index, final Object value) throws IOException;
+
+  abstract T finish(final Object state) throws IOException;
+
+  @Override
+  public String toString() {
+    return "BinaryTagBinding[" + this.type.getName() + "]";
+  }
+
+  static IOException rethrow(final Throwable t) {
+    if (t instanceof IOException) return (IOException) t;
+    if (t instanceof RuntimeException) throw (RuntimeException) t;
+    if (t instanceof Error) throw (Error) t;
+    return new IOException(t);
+  }
+
+  private static BinaryTagBindingImpl<?> create(final Class<?> type) {
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray() || type.isPrimitive() || type.isEnum()) {
+      throw new IllegalArgumentException("Cannot bind " + type + ": only concrete classes and records are supported");
+    }
+    try {
+      if (isRecord(type)) {
+        return createRecord(type);
+      }
+      return createClass(type);
+    } catch (final ReflectiveOperationException ex) {
+      throw new IllegalArgumentException("Cannot bind " + type, ex);
+    }
+  }
+
+  static boolean isRecord(final Class<?> type) {
+    try {
+      return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+    } catch (final ReflectiveOperationException ex) {
+      return false;
+    }
+  }
+
+  private static <T> BinaryTagBindingImpl<T> createRecord(final Class<T> type) throws ReflectiveOperationException {
+    final Object[] components = (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+    final int length = components.length;
+    final String[] names = new String[length];
+    final Codec[] codecs = new Codec[length];
+    final MethodHandle[] getters = new MethodHandle[length];
+    final Class<?>[] types = new Class<?>[length];
+    final Object[] defaults = new Object[length];
+    for (int i = 0; i < length; i++) {
+      final Object component = components[i];
+      names[i] = (String) RECORD_COMPONENT_NAME.invoke(component);
+      types[i] = (Class<?>) RECORD_COMPONENT_TYPE.invoke(component);
+      codecs[i] = codec(type, names[i], (Type) RECORD_COMPONENT_GENERIC_TYPE.invoke(component));
+      final Method accessor = (Method) RECORD_COMPONENT_ACCESSOR.invoke(component);
+      accessor.setAccessible(true);
+      getters[i] = LOOKUP.unreflect(accessor).asType(GETTER);
+      defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+    }
+    final Constructor<T> constructor = type.getDeclaredConstructor(types);
+    constructor.setAccessible(true);
+    final MethodHandle handle = LOOKUP.unreflectConstructor(constructor)
+      .asSpreader(Object[].class, length)
+      .asType(MethodType.methodType(Object.class, Object[].class));
+    return new RecordBinding<>(type, names, codecs, getters, handle, defaults);
+  }
+
+  private static <T> BinaryTagBindingImpl<T> createClass(final Class<T> type) throws ReflectiveOperationException {
+    final List<Field> fields = new ArrayList<>();
+    for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+      for (final Field field : current.getDeclaredFields()) {
+        final int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+          fields.add(field);
+        }
+      }
+    }
+    final int length = fields.size();
+    final String[] names = new String[length];
+    final Codec[] codecs = new Codec[length];
+    final MethodHandle[] getters = new MethodHandle[length];
+    final MethodHandle[] setters = new MethodHandle[length];
+    for (int i = 0; i < length; i++) {
+      final Field field = fields.get(i);
+      field.setAccessible(true);
+      names[i] = field.getName();
+      codecs[i] = codec(type, names[i], field.getGenericType());
+      getters[i] = LOOKUP.unreflectGetter(field).asType(GETTER);
+      setters[i] = LOOKUP.unreflectSetter(field).asType(SETTER);
+    }
+    final Constructor<T> constructor = type.getDeclaredConstructor();
+    constructor.setAccessible(true);
+    final MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+    return new ClassBinding<>(type, names, codecs, getters, setters, handle);
+  }
+
+  private static Codec codec(final Class<?> owner, final String name, final Type type) {
+    final @Nullable Codec codec = codec(type);
+    if (codec == null) {
+      throw new IllegalArgumentException("Cannot bind " + owner.getName() + "." + name + ": unsupported type " + type.getTypeName());
+    }
+    return codec;
+  }
+
+  private static @Nullable Codec codec(final Type type) {
+    if (type instanceof Class<?>) {
+      final Class<?> raw = (Class<?>) type;
+      if (raw == boolean.class || raw == Boolean.class) return Codec.BOOLEAN;
+      if (raw == byte.class || raw == Byte.class) return Codec.BYTE;
+      if (raw == short.class || raw == Short.class) return Codec.SHORT;
+      if (raw == int.class || raw == Integer.class) return Codec.INT;
+      if (raw == long.class || raw == Long.class) return Codec.LONG;
+      if (raw == float.class || raw == Float.class) return Codec.FLOAT;
+      if (raw == double.class || raw == Double.class) return Codec.DOUBLE;
+      if (raw == String.class) return Codec.STRING;
+      if (raw == byte[].class) return Codec.BYTE_ARRAY;
+      if (raw == int[].class) return Codec.INT_ARRAY;
+      if (raw == long[].class) return Codec.LONG_ARRAY;
+      if (raw.isEnum()) return new Codec.EnumCodec(raw);
+      if (BinaryTag.class.isAssignableFrom(raw)) return new Codec.TagCodec(raw);
+      if (raw.isPrimitive() || raw.isArray() || raw.isInterface() || Modifier.isAbstract(raw.getModifiers()) || raw.getName().startsWith("java.")) return null;
+      return new Codec.NestedCodec(raw);
+    } else if (type instanceof ParameterizedType) {
+      final ParameterizedType parameterized = (ParameterizedType) type;
+      if (parameterized.getRawType() == List.class) {
+        Type element = parameterized.getActualTypeArguments()[0];
+        if (element instanceof WildcardType) {
+          element = ((WildcardType) element).getUpperBounds()[0];
+        }
+        final @Nullable Codec elementCodec = codec(element);
+        return elementCodec == null ? null : new Codec.ListCodec(elementCodec);
+      }
+    }
+    return null;
+  }
+
+  static final class RecordBinding<T> extends BinaryTagBindingImpl<T> {
+    private final MethodHandle constructor;
+    private final Object[] defaults;
+
+    RecordBinding(final Class<T> type, final String[] names, final Codec[] codecs, final MethodHandle[] getters, final MethodHandle constructor, final Object[] defaults) {
+      super(type, names, codecs, getters);
+      this.constructor = constructor;
+      this.defaults = defaults;
+    }
+
+    @Override
+    Object begin() {
+      return this.defaults.clone();
+    }
+
+    @Override
+    void set(final Object state, final int index, final Object value) {
+      ((Object[]) state)[index] = value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    T finish(final Object state) throws IOException {
+      try {
+        return (T) (Object) this.constructor.invokeExact((Object[]) state);
+      } catch (final Throwable t) {
+        throw rethrow(t);
+      }
+    }
+  }
+
+  static final class ClassBinding<T> extends BinaryTagBindingImpl<T> {
+    private final MethodHandle[] setters;
+    private final MethodHandle constructor;
+
+    ClassBinding(final Class<T> type, final String[] names, final Codec[] codecs, final MethodHandle[] getters, final MethodHandle[] setters, final MethodHandle constructor) {
+      super(type, names, codecs, getters);
+      this.setters = setters;
+      this.constructor = constructor;
+    }
+
+    @Override
+    Object begin() throws IOException {
+      try {
+        return (Object) this.constructor.invokeExact();
+      } catch (final Throwable t) {
+        throw rethrow(t);
+      }
+    }
+
+    @Override
+    void set(final Object state, final int index, final Object value) throws IOException {
+      try {
+        this.setters[index].invokeExact(state, value);
+      } catch (final Throwable t) {
+        throw rethrow(t);
+      }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    T finish(final Object state) {
+      return (T) state;
+    }
+  }
+
+  abstract static class Codec {
+    static final Codec BOOLEAN = new NumberCodec(BinaryTagTypes.BYTE) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readByte() != 0;
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeByte((Boolean) value ? 1 : 0);
+      }
+
+      @Override
+      Object convert(final NumberBinaryTag tag) {
+        return tag.byteValue() != 0;
+      }
+    };
+    static final Codec BYTE = new NumberCodec(BinaryTagTypes.BYTE) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readByte();
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeByte((Byte) value);
+      }
+
+      @Override
+      Object convert(final NumberBinaryTag tag) {
+        return tag.byteValue();
+      }
+    };
+    static final Codec SHORT = new NumberCodec(BinaryTagTypes.SHORT) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readShort();
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeShort((Short) value);
+      }
+
+      @Override
+      Object convert(final NumberBinaryTag tag) {
+        return tag.shortValue();
+      }
+    };
+    static final Codec INT = new NumberCodec(BinaryTagTypes.INT) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readInt();
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeInt((Integer) value);
+      }
+
+      @Override
+      Object convert(final NumberBinaryTag tag) {
+        return tag.intValue();
+      }
+    };
+    static final Codec LONG = new NumberCodec(BinaryTagTypes.LONG) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readLong();
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeLong((Long) value);
+      }
+
+      @Override
+      Object convert(final NumberBinaryTag tag) {
+        return tag.longValue();
+      }
+    };
+    static final Codec FLOAT = new NumberCodec(BinaryTagTypes.FLOAT) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readFloat();
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeFloat((Float) value);
+      }
+
+      @Override
+      Object convert(final NumberBinaryTag tag) {
+        return tag.floatValue();
+      }
+    };
+    static final Codec DOUBLE = new NumberCodec(BinaryTagTypes.DOUBLE) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readDouble();
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeDouble((Double) value);
+      }
+
+      @Override
+      Object convert(final NumberBinaryTag tag) {
+        return tag.doubleValue();
+      }
+    };
+    static final Codec STRING = new TypedCodec(BinaryTagTypes.STRING) {
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return input.readUTF();
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeUTF((String) value);
+      }
+    };
+    static final Codec BYTE_ARRAY = new TypedCodec(BinaryTagTypes.BYTE_ARRAY) {
+      @Override
+      @SuppressWarnings("try")
+      Object read(final DataInput input) throws IOException {
+        final int length = input.readInt();
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length)) {
+          final byte[] value = new byte[length];
+          input.readFully(value);
+          return value;
+        }
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        final byte[] array = (byte[]) value;
+        output.writeInt(array.length);
+        output.write(array);
+      }
+    };
+    static final Codec INT_ARRAY = new TypedCodec(BinaryTagTypes.INT_ARRAY) {
+      @Override
+      @SuppressWarnings("try")
+      Object read(final DataInput input) throws IOException {
+        final int length = input.readInt();
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 4L)) {
+          final int[] value = new int[length];
+          for (int i = 0; i < length; i++) {
+            value[i] = input.readInt();
+          }
+          return value;
+        }
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        final int[] array = (int[]) value;
+        output.writeInt(array.length);
+        for (final int element : array) {
+          output.writeInt(element);
+        }
+      }
+    };
+    static final Codec LONG_ARRAY = new TypedCodec(BinaryTagTypes.LONG_ARRAY) {
+      @Override
+      @SuppressWarnings("try")
+      Object read(final DataInput input) throws IOException {
+        final int length = input.readInt();
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
+          final long[] value = new long[length];
+          for (int i = 0; i < length; i++) {
+            value[i] = input.readLong();
+          }
+          return value;
+        }
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        final long[] array = (long[]) value;
+        output.writeInt(array.length);
+        for (final long element : array) {
+          output.writeLong(element);
+        }
+      }
+    };
+
+    final BinaryTagType<? extends BinaryTag> type;
+
+    Codec(final BinaryTagType<? extends BinaryTag> type) {
+      this.type = type;
+    }
+
+    byte id(final Object value) {
+      return this.type.id();
+    }
+
+    abstract Object read(final byte id, final DataInput input) throws IOException;
+
+    abstract void write(final Object value, final DataOutput output) throws IOException;
+
+    // a codec always reading and writing one type of tag, converting other tags where it can
+    abstract static class TypedCodec extends Codec {
+      TypedCodec(final BinaryTagType<? extends BinaryTag> type) {
+        super(type);
+      }
+
+      @Override
+      final Object read(final byte id, final DataInput input) throws IOException {
+        if (id == this.type.id()) {
+          return this.read(input);
+        }
+        return this.convert(BinaryTagType.of(id).read(input));
+      }
+
+      abstract Object read(final DataInput input) throws IOException;
+
+      Object convert(final BinaryTag tag) throws IOException {
+        throw new IOException("Expected a " + this.type + ", was " + tag.type());
+      }
+    }
+
+    abstract static class NumberCodec extends TypedCodec {
+      NumberCodec(final BinaryTagType<? extends BinaryTag> type) {
+        super(type);
+      }
+
+      @Override
+      final Object convert(final BinaryTag tag) throws IOException {
+        if (tag instanceof NumberBinaryTag) {
+          return this.convert((NumberBinaryTag) tag);
+        }
+        return super.convert(tag);
+      }
+
+      abstract Object convert(final NumberBinaryTag tag);
+    }
+
+    static final class EnumCodec extends TypedCodec {
+      private final Class<?> type;
+
+      EnumCodec(final Class<?> type) {
+        super(BinaryTagTypes.STRING);
+        this.type = type;
+      }
+
+      @Override
+      Object read(final DataInput input) throws IOException {
+        final String name = input.readUTF();
+        for (final Object constant : this.type.getEnumConstants()) {
+          if (((Enum<?>) constant).name().equals(name)) {
+            return constant;
+          }
+        }
+        throw new IOException("Unknown " + this.type.getName() + " constant " + name);
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        output.writeUTF(((Enum<?>) value).name());
+      }
+    }
+
+    static final class TagCodec extends Codec {
+      private final Class<?> type;
+
+      TagCodec(final Class<?> type) {
+        super(BinaryTagTypes.END);
+        this.type = type;
+      }
+
+      @Override
+      byte id(final Object value) {
+        return ((BinaryTag) value).type().id();
+      }
+
+      @Override
+      Object read(final byte id, final DataInput input) throws IOException {
+        final BinaryTag tag = BinaryTagType.of(id).read(input);
+        if (!this.type.isInstance(tag)) {
+          throw new IOException("Expected a " + this.type.getSimpleName() + ", was " + tag.type());
+        }
+        return tag;
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        final BinaryTag tag = (BinaryTag) value;
+        BinaryTagType.write(tag.type(), tag, output);
+      }
+    }
+
+    static final class NestedCodec extends TypedCodec {
+      private final Class<?> type;
+
+      NestedCodec(final Class<?> type) {
+        super(BinaryTagTypes.COMPOUND);
+        this.type = type;
+      }
+
+      // resolved lazily, to allow types that refer to themselves
+      private BinaryTagBindingImpl<?> binding() {
+        return BINDINGS.get(this.type);
+      }
+
+      @Override
+      Object read(final DataInput input) throws IOException {
+        return this.binding().read(input);
+      }
+
+      @Override
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      void write(final Object value, final DataOutput output) throws IOException {
+        ((BinaryTagBindingImpl) this.binding()).write(value, output);
+      }
+    }
+
+    static final class ListCodec extends TypedCodec {
+      private final Codec element;
+
+      ListCodec(final Codec element) {
+        super(BinaryTagTypes.LIST);
+        this.element = element;
+      }
+
+      @Override
+      @SuppressWarnings("try")
+      Object read(final DataInput input) throws IOException {
+        final byte id = input.readByte();
+        final int length = input.readInt();
+        try(final BinaryTagScope ignored = TrackingDataInput.enter(input, length * 8L)) {
+          final List<Object> list = new ArrayList<>(length);
+          for (int i = 0; i < length; i++) {
+            list.add(this.element.read(id, input));
+          }
+          return list;
+        }
+      }
+
+      @Override
+      byte id(final Object value) {
+        this.elementId((List<?>) value); // validate before the enclosing entry is written
+        return super.id(value);
+      }
+
+      @Override
+      void write(final Object value, final DataOutput output) throws IOException {
+        final List<?> list = (List<?>) value;
+        final int size = list.size();
+        output.writeByte(this.elementId(list));
+        output.writeInt(size);
+        for (int i = 0; i < size; i++) {
+          this.element.write(list.get(i), output);
+        }
+      }
+
+      // a list tag holds a single type of element, so reject anything that could not be read back
+      private byte elementId(final List<?> list) {
+        final int size = list.size();
+        if (size == 0) return BinaryTagTypes.END.id();
+        byte id = 0;
+        for (int i = 0; i < size; i++) {
+          final Object element = list.get(i);
+          if (element == null) {
+            throw new IllegalArgumentException("Cannot write a list with a null element at index " + i);
+          }
+          final byte elementId = this.element.id(element);
+          if (i == 0) {
+            id = elementId;
+          } else if (elementId != id) {
+            throw new IllegalArgumentException("Cannot write a list mixing " + BinaryTagType.of(id) + " and " + BinaryTagType.of(elementId) + " elements, at index " + i);
+          }
+        }
+        return id;
+      }
+    }
+  }
+}
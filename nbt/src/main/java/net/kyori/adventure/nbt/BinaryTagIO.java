@@ -23,13 +23,23 @@
  */
 package net.kyori.adventure.nbt;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -363,6 +373,149 @@ public final class BinaryTagIO {
      * @since 4.4.0
      */
     Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull DataInput input) throws IOException;
+
+    /**
+     * Reads a value from {@code path} with a {@code compression} type, using a binding.
+     *
+     * <p>The value is decoded directly, without creating an intermediate {@link CompoundBinaryTag}.</p>
+     *
+     * @param path the path
+     * @param compression the compression type
+     * @param binding the binding
+     * @param <T> the value type
+     * @return the value
+     * @throws IOException if an exception was encountered while reading the value
+     * @since 4.10.0
+     */
+    default <T> @NotNull T read(final @NotNull Path path, final @NotNull Compression compression, final @NotNull BinaryTagBinding<T> binding) throws IOException {
+      try(final InputStream is = Files.newInputStream(path)) {
+        return this.read(is, compression, binding);
+      }
+    }
+
+    /**
+     * Reads a value from {@code input} with a {@code compression} type, using a binding.
+     *
+     * <p>The value is decoded directly, without creating an intermediate {@link CompoundBinaryTag}.</p>
+     *
+     * @param input the input stream
+     * @param compression the compression type
+     * @param binding the binding
+     * @param <T> the value type
+     * @return the value
+     * @throws IOException if an exception was encountered while reading the value
+     * @since 4.10.0
+     */
+    default <T> @NotNull T read(final @NotNull InputStream input, final @NotNull Compression compression, final @NotNull BinaryTagBinding<T> binding) throws IOException {
+      try(final DataInputStream dis = new DataInputStream(new BufferedInputStream(compression.decompress(IOStreamUtil.closeShield(input))))) {
+        return this.read((DataInput) dis, binding);
+      }
+    }
+
+    /**
+     * Reads a value from {@code input}, using a binding.
+     *
+     * <p>The value is decoded directly, without creating an intermediate {@link CompoundBinaryTag}.</p>
+     *
+     * @param input the input
+     * @param binding the binding
+     * @param <T> the value type
+     * @return the value
+     * @throws IOException if an exception was encountered while reading the value
+     * @since 4.10.0
+     */
+    default <T> @NotNull T read(final @NotNull DataInput input, final @NotNull BinaryTagBinding<T> binding) throws IOException {
+      final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(input.readByte());
+      if (type != BinaryTagTypes.COMPOUND) {
+        throw new IOException(String.format("Expected root tag to be a %s, was %s", BinaryTagTypes.COMPOUND, type));
+      }
+      input.skipBytes(input.readUnsignedShort()); // read empty name
+      return binding.read(input);
+    }
+
+    /**
+     * Reads a binary tag from {@code path} with a {@code compression} type, without blocking the calling thread.
+     *
+     * <p>The file is read using an {@link java.nio.channels.AsynchronousFileChannel}, and opened,
+     * decompressed and decoded on {@code executor}.</p>
+     *
+     * @param path the path
+     * @param compression the compression type
+     * @param executor the executor to open, decompress and decode the file on
+     * @return a future completing with the binary tag, or exceptionally with an {@link IOException}
+     * @see #readAsync(Path, Compression, Executor, Executor)
+     * @since 4.10.0
+     */
+    default @NotNull CompletableFuture<CompoundBinaryTag> readAsync(final @NotNull Path path, final @NotNull Compression compression, final @NotNull Executor executor) {
+      return this.readAsync(path, compression, executor, executor);
+    }
+
+    /**
+     * Reads a binary tag from {@code path} with a {@code compression} type, without blocking the calling thread.
+     *
+     * <p>The file is opened on {@code ioExecutor} and read using an {@link java.nio.channels.AsynchronousFileChannel},
+     * then decompressed and decoded on {@code computeExecutor}.</p>
+     *
+     * @param path the path
+     * @param compression the compression type
+     * @param ioExecutor the executor to open the file on
+     * @param computeExecutor the executor to decompress and decode the file on
+     * @return a future completing with the binary tag, or exceptionally with an {@link IOException}
+     * @since 4.10.0
+     */
+    default @NotNull CompletableFuture<CompoundBinaryTag> readAsync(final @NotNull Path path, final @NotNull Compression compression, final @NotNull Executor ioExecutor, final @NotNull Executor computeExecutor) {
+      return AsyncFileIO.read(path, ioExecutor).thenApplyAsync(bytes -> {
+        try {
+          return this.read(new ByteArrayInputStream(bytes), compression);
+        } catch (final IOException ex) {
+          throw new CompletionException(ex);
+        }
+      }, computeExecutor);
+    }
+
+    /**
+     * Reads a value from {@code path} with a {@code compression} type using a binding, without blocking the calling thread.
+     *
+     * <p>The file is read using an {@link java.nio.channels.AsynchronousFileChannel}, and opened,
+     * decompressed and decoded on {@code executor}.</p>
+     *
+     * @param path the path
+     * @param compression the compression type
+     * @param binding the binding
+     * @param executor the executor to open, decompress and decode the file on
+     * @param <T> the value type
+     * @return a future completing with the value, or exceptionally with an {@link IOException}
+     * @see #readAsync(Path, Compression, BinaryTagBinding, Executor, Executor)
+     * @since 4.10.0
+     */
+    default <T> @NotNull CompletableFuture<T> readAsync(final @NotNull Path path, final @NotNull Compression compression, final @NotNull BinaryTagBinding<T> binding, final @NotNull Executor executor) {
+      return this.readAsync(path, compression, binding, executor, executor);
+    }
+
+    /**
+     * Reads a value from {@code path} with a {@code compression} type using a binding, without blocking the calling thread.
+     *
+     * <p>The file is opened on {@code ioExecutor} and read using an {@link java.nio.channels.AsynchronousFileChannel},
+     * then decompressed and decoded on {@code computeExecutor}.</p>
+     *
+     * @param path the path
+     * @param compression the compression type
+     * @param binding the binding
+     * @param ioExecutor the executor to open the file on
+     * @param computeExecutor the executor to decompress and decode the file on
+     * @param <T> the value type
+     * @return a future completing with the value, or exceptionally with an {@link IOException}
+     * @since 4.10.0
+     */
+    default <T> @NotNull CompletableFuture<T> readAsync(final @NotNull Path path, final @NotNull Compression compression, final @NotNull BinaryTagBinding<T> binding, final @NotNull Executor ioExecutor, final @NotNull Executor computeExecutor) {
+      return AsyncFileIO.read(path, ioExecutor).thenApplyAsync(bytes -> {
+        try {
+          return this.read(new ByteArrayInputStream(bytes), compression, binding);
+        } catch (final IOException ex) {
+          throw new CompletionException(ex);
+        }
+      }, computeExecutor);
+    }
   }
 
   /**
@@ -480,6 +633,158 @@ public final class BinaryTagIO {
      * @since 4.4.0
      */
     void writeNamed(final Map.@NotNull Entry<String, CompoundBinaryTag> tag, final @NotNull DataOutput output) throws IOException;
+
+    /**
+     * Writes a value to {@code path} with a {@code compression} type, using a binding.
+     *
+     * <p>The value is encoded directly, without creating an intermediate {@link CompoundBinaryTag}.</p>
+     *
+     * @param value the value
+     * @param binding the binding
+     * @param path the path
+     * @param compression the compression type
+     * @param <T> the value type
+     * @throws IOException if an exception was encountered while writing the value
+     * @since 4.10.0
+     */
+    default <T> void write(final @NotNull T value, final @NotNull BinaryTagBinding<T> binding, final @NotNull Path path, final @NotNull Compression compression) throws IOException {
+      try(final OutputStream os = Files.newOutputStream(path)) {
+        this.write(value, binding, os, compression);
+      }
+    }
+
+    /**
+     * Writes a value to {@code output} with a {@code compression} type, using a binding.
+     *
+     * <p>The value is encoded directly, without creating an intermediate {@link CompoundBinaryTag}.</p>
+     *
+     * @param value the value
+     * @param binding the binding
+     * @param output the output stream
+     * @param compression the compression type
+     * @param <T> the value type
+     * @throws IOException if an exception was encountered while writing the value
+     * @since 4.10.0
+     */
+    default <T> void write(final @NotNull T value, final @NotNull BinaryTagBinding<T> binding, final @NotNull OutputStream output, final @NotNull Compression compression) throws IOException {
+      try(final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(compression.compress(IOStreamUtil.closeShield(output))))) {
+        this.write(value, binding, (DataOutput) dos);
+      }
+    }
+
+    /**
+     * Writes a value to {@code output}, using a binding.
+     *
+     * <p>The value is encoded directly, without creating an intermediate {@link CompoundBinaryTag}.</p>
+     *
+     * @param value the value
+     * @param binding the binding
+     * @param output the output
+     * @param <T> the value type
+     * @throws IOException if an exception was encountered while writing the value
+     * @since 4.10.0
+     */
+    default <T> void write(final @NotNull T value, final @NotNull BinaryTagBinding<T> binding, final @NotNull DataOutput output) throws IOException {
+      output.writeByte(BinaryTagTypes.COMPOUND.id());
+      output.writeUTF(""); // write empty name
+      binding.write(value, output);
+    }
+
+    /**
+     * Writes a binary tag to {@code path} with a {@code compression} type, without blocking the calling thread.
+     *
+     * <p>The tag is encoded and compressed on {@code executor}, and written using an
+     * {@link java.nio.channels.AsynchronousFileChannel} to a temporary file, which then replaces {@code path}.
+     * Readers of {@code path} will never observe a partially written file.</p>
+     *
+     * @param tag the tag
+     * @param path the path
+     * @param compression the compression type
+     * @param executor the executor to encode, compress and create the file on
+     * @return a future completing once the file has been replaced, or exceptionally with an {@link IOException}
+     * @see #writeAsync(CompoundBinaryTag, Path, Compression, Executor, Executor)
+     * @since 4.10.0
+     */
+    default @NotNull CompletableFuture<Void> writeAsync(final @NotNull CompoundBinaryTag tag, final @NotNull Path path, final @NotNull Compression compression, final @NotNull Executor executor) {
+      return this.writeAsync(tag, path, compression, executor, executor);
+    }
+
+    /**
+     * Writes a binary tag to {@code path} with a {@code compression} type, without blocking the calling thread.
+     *
+     * <p>The tag is encoded and compressed on {@code computeExecutor}. A temporary file is then created on {@code ioExecutor}
+     * and written using an {@link java.nio.channels.AsynchronousFileChannel}, before it replaces {@code path}.
+     * Readers of {@code path} will never observe a partially written file.</p>
+     *
+     * @param tag the tag
+     * @param path the path
+     * @param compression the compression type
+     * @param ioExecutor the executor to create the file on
+     * @param computeExecutor the executor to encode and compress the tag on
+     * @return a future completing once the file has been replaced, or exceptionally with an {@link IOException}
+     * @since 4.10.0
+     */
+    default @NotNull CompletableFuture<Void> writeAsync(final @NotNull CompoundBinaryTag tag, final @NotNull Path path, final @NotNull Compression compression, final @NotNull Executor ioExecutor, final @NotNull Executor computeExecutor) {
+      return CompletableFuture.supplyAsync(() -> {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+          this.write(tag, output, compression);
+        } catch (final IOException ex) {
+          throw new CompletionException(ex);
+        }
+        return output.toByteArray();
+      }, computeExecutor).thenCompose(bytes -> AsyncFileIO.write(path, bytes, ioExecutor));
+    }
+
+    /**
+     * Writes a value to {@code path} with a {@code compression} type using a binding, without blocking the calling thread.
+     *
+     * <p>The value is encoded and compressed on {@code executor}, and written using an
+     * {@link java.nio.channels.AsynchronousFileChannel} to a temporary file, which then replaces {@code path}.
+     * Readers of {@code path} will never observe a partially written file.</p>
+     *
+     * @param value the value
+     * @param binding the binding
+     * @param path the path
+     * @param compression the compression type
+     * @param executor the executor to encode, compress and create the file on
+     * @param <T> the value type
+     * @return a future completing once the file has been replaced, or exceptionally with an {@link IOException}
+     * @see #writeAsync(Object, BinaryTagBinding, Path, Compression, Executor, Executor)
+     * @since 4.10.0
+     */
+    default <T> @NotNull CompletableFuture<Void> writeAsync(final @NotNull T value, final @NotNull BinaryTagBinding<T> binding, final @NotNull Path path, final @NotNull Compression compression, final @NotNull Executor executor) {
+      return this.writeAsync(value, binding, path, compression, executor, executor);
+    }
+
+    /**
+     * Writes a value to {@code path} with a {@code compression} type using a binding, without blocking the calling thread.
+     *
+     * <p>The value is encoded and compressed on {@code computeExecutor}. A temporary file is then created on {@code ioExecutor}
+     * and written using an {@link java.nio.channels.AsynchronousFileChannel}, before it replaces {@code path}.
+     * Readers of {@code path} will never observe a partially written file.</p>
+     *
+     * @param value the value
+     * @param binding the binding
+     * @param path the path
+     * @param compression the compression type
+     * @param ioExecutor the executor to create the file on
+     * @param computeExecutor the executor to encode and compress the value on
+     * @param <T> the value type
+     * @return a future completing once the file has been replaced, or exceptionally with an {@link IOException}
+     * @since 4.10.0
+     */
+    default <T> @NotNull CompletableFuture<Void> writeAsync(final @NotNull T value, final @NotNull BinaryTagBinding<T> binding, final @NotNull Path path, final @NotNull Compression compression, final @NotNull Executor ioExecutor, final @NotNull Executor computeExecutor) {
+      return CompletableFuture.supplyAsync(() -> {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+          this.write(value, binding, output, compression);
+        } catch (final IOException ex) {
+          throw new CompletionException(ex);
+        }
+        return output.toByteArray();
+      }, computeExecutor).thenCompose(bytes -> AsyncFileIO.write(path, bytes, ioExecutor));
+    }
   }
 
   /**
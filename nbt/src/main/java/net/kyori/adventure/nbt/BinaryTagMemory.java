@@ -0,0 +1,365 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Estimates the heap footprint of binary tag trees.
+ *
+ * <p>Sizes are estimates for a 64-bit JVM using compressed object pointers and compact strings. They account for
+ * the tag objects themselves, the maps and lists backing compound and list tags, key strings, and primitive arrays.
+ * Objects reachable more than once (shared subtrees, cached tags such as {@link ByteBinaryTag#ZERO}, or interned keys)
+ * are only counted once per measurement.</p>
+ *
+ * @since 4.10.0
+ */
+public final class BinaryTagMemory {
+  private static final int OBJECT_HEADER = 12;
+  private static final int ARRAY_HEADER = 16;
+  private static final int REFERENCE = 4;
+  private static final int ALIGNMENT = 8;
+
+  private static final int STRING = align(OBJECT_HEADER + REFERENCE + 4 + 1 + 1); // value, hash, coder, hashIsZero
+  private static final int UNMODIFIABLE_MAP = align(OBJECT_HEADER + REFERENCE * 4); // m, keySet, entrySet, values
+  private static final int HASH_MAP = align(OBJECT_HEADER + REFERENCE * 4 + 4 * 4); // table, entrySet, keySet, values, size, modCount, threshold, loadFactor
+  private static final int HASH_MAP_NODE = align(OBJECT_HEADER + 4 + REFERENCE * 3); // hash, key, value, next
+  private static final int UNMODIFIABLE_LIST = align(OBJECT_HEADER + REFERENCE * 2); // c, list
+  private static final int ARRAY_LIST = align(OBJECT_HEADER + 4 + REFERENCE + 4); // size, elementData, modCount
+
+  private BinaryTagMemory() {
+  }
+
+  /**
+   * Estimates the retained size of a tag, in bytes.
+   *
+   * @param tag the tag
+   * @return the estimated retained size
+   * @since 4.10.0
+   */
+  public static long retainedSize(final @NotNull BinaryTag tag) {
+    return new Walker(null).visit(requireNonNull(tag, "tag"), "");
+  }
+
+  /**
+   * Estimates the combined retained size of several tags, in bytes.
+   *
+   * <p>Objects shared between the provided tags are only counted once.</p>
+   *
+   * @param tags the tags
+   * @return the estimated retained size
+   * @since 4.10.0
+   */
+  public static long combinedRetainedSize(final @NotNull Iterable<? extends BinaryTag> tags) {
+    final Walker walker = new Walker(null);
+    long size = 0;
+    for (final BinaryTag tag : requireNonNull(tags, "tags")) {
+      size += walker.visit(tag, "");
+    }
+    return size;
+  }
+
+  /**
+   * Creates a new histogram, used to find which keys and types dominate memory across many tags.
+   *
+   * @return a new histogram
+   * @since 4.10.0
+   */
+  public static @NotNull Histogram histogram() {
+    return new Histogram();
+  }
+
+  static int align(final long size) {
+    return (int) ((size + ALIGNMENT - 1) & -ALIGNMENT);
+  }
+
+  static long arraySize(final int length, final int elementSize) {
+    return align(ARRAY_HEADER + (long) length * elementSize);
+  }
+
+  static long stringSize(final String string) {
+    final int length = string.length();
+    boolean latin1 = true;
+    for (int i = 0; i < length; i++) {
+      if (string.charAt(i) > 0xff) {
+        latin1 = false;
+        break;
+      }
+    }
+    return STRING + arraySize(length, latin1 ? 1 : 2);
+  }
+
+  // the capacity a HashMap reaches when populated by insertion, as done when reading and building compounds
+  static int hashMapCapacity(final int size) {
+    if (size == 0) return 0;
+    int capacity = 16;
+    while (size > capacity * 3 / 4) capacity <<= 1;
+    return capacity;
+  }
+
+  // the size of the tag object and any containers it exclusively owns, but not of child tags
+  static long shallowSize(final BinaryTag tag) {
+    final BinaryTagType<? extends BinaryTag> type = tag.type();
+    if (type == BinaryTagTypes.END) {
+      return align(OBJECT_HEADER);
+    } else if (type == BinaryTagTypes.BYTE || type == BinaryTagTypes.SHORT || type == BinaryTagTypes.INT || type == BinaryTagTypes.FLOAT) {
+      return align(OBJECT_HEADER + 4);
+    } else if (type == BinaryTagTypes.LONG || type == BinaryTagTypes.DOUBLE) {
+      return align(OBJECT_HEADER + 8);
+    } else if (type == BinaryTagTypes.BYTE_ARRAY) {
+      return align(OBJECT_HEADER + REFERENCE) + arraySize(((ByteArrayBinaryTag) tag).size(), 1);
+    } else if (type == BinaryTagTypes.INT_ARRAY) {
+      return align(OBJECT_HEADER + REFERENCE) + arraySize(((IntArrayBinaryTag) tag).size(), 4);
+    } else if (type == BinaryTagTypes.LONG_ARRAY) {
+      return align(OBJECT_HEADER + REFERENCE) + arraySize(((LongArrayBinaryTag) tag).size(), 8);
+    } else if (type == BinaryTagTypes.STRING) {
+      return align(OBJECT_HEADER + REFERENCE); // the string value is accounted for separately, as it may be shared
+    } else if (type == BinaryTagTypes.LIST) {
+      final int size = ((ListBinaryTag) tag).size();
+      return align(OBJECT_HEADER + REFERENCE * 2 + 4) + (size == 0 ? 0 : UNMODIFIABLE_LIST + ARRAY_LIST + arraySize(size, REFERENCE));
+    } else if (type == BinaryTagTypes.COMPOUND) {
+      final int size = ((CompoundBinaryTag) tag).keySet().size();
+      final int capacity = hashMapCapacity(size);
+      return align(OBJECT_HEADER + REFERENCE + 4) + UNMODIFIABLE_MAP + HASH_MAP + (capacity == 0 ? 0 : arraySize(capacity, REFERENCE)) + (long) size * HASH_MAP_NODE;
+    }
+    return align(OBJECT_HEADER);
+  }
+
+  interface Sink {
+    void accept(final BinaryTag tag, final String key, final long bytes);
+  }
+
+  static final class Walker {
+    private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final @Nullable Sink sink;
+
+    Walker(final @Nullable Sink sink) {
+      this.sink = sink;
+    }
+
+    long visit(final BinaryTag tag, final String key) {
+      if (!this.seen.add(tag)) return 0;
+      long size = shallowSize(tag);
+      if (tag instanceof StringBinaryTag) {
+        size += this.string(((StringBinaryTag) tag).value());
+      } else if (tag instanceof CompoundBinaryTag) {
+        for (final Map.Entry<String, ? extends BinaryTag> entry : (CompoundBinaryTag) tag) {
+          size += this.string(entry.getKey());
+        }
+      }
+      if (this.sink != null) this.sink.accept(tag, key, size);
+      if (tag instanceof CompoundBinaryTag) {
+        for (final Map.Entry<String, ? extends BinaryTag> entry : (CompoundBinaryTag) tag) {
+          size += this.visit(entry.getValue(), entry.getKey());
+        }
+      } else if (tag instanceof ListBinaryTag) {
+        for (final BinaryTag element : (ListBinaryTag) tag) {
+          size += this.visit(element, key);
+        }
+      }
+      return size;
+    }
+
+    private long string(final String string) {
+      return this.seen.add(string) ? stringSize(string) : 0;
+    }
+  }
+
+  /**
+   * A histogram of estimated memory use, by key and by tag type.
+   *
+   * <p>Each tag's own size is attributed to its type, and to the key it is stored under in its parent compound. Elements
+   * of a list are attributed to the key of the list. Root tags are attributed to the empty key.</p>
+   *
+   * <p>Sharing is detected within each added tag, but not between tags.</p>
+   *
+   * @since 4.10.0
+   */
+  public static final class Histogram implements Examinable {
+    private final Map<String, EntryImpl> keys = new HashMap<>();
+    private final Map<String, EntryImpl> types = new HashMap<>();
+    private long total;
+
+    Histogram() {
+    }
+
+    /**
+     * Adds a tag to this histogram.
+     *
+     * @param tag the tag
+     * @return this histogram
+     * @since 4.10.0
+     */
+    public @NotNull Histogram add(final @NotNull BinaryTag tag) {
+      this.total += new Walker((child, key, bytes) -> {
+        this.keys.computeIfAbsent(key, EntryImpl::new).add(bytes);
+        this.types.computeIfAbsent(typeName(child.type()), EntryImpl::new).add(bytes);
+      }).visit(requireNonNull(tag, "tag"), "");
+      return this;
+    }
+
+    /**
+     * Gets the estimated size of all tags added to this histogram, in bytes.
+     *
+     * @return the total size
+     * @since 4.10.0
+     */
+    public long totalBytes() {
+      return this.total;
+    }
+
+    /**
+     * Gets the entries for each key, largest first.
+     *
+     * @return the entries
+     * @since 4.10.0
+     */
+    public @NotNull List<Entry> byKey() {
+      return sorted(this.keys);
+    }
+
+    /**
+     * Gets the entries for each tag type, largest first.
+     *
+     * @return the entries
+     * @since 4.10.0
+     */
+    public @NotNull List<Entry> byType() {
+      return sorted(this.types);
+    }
+
+    private static String typeName(final BinaryTagType<? extends BinaryTag> type) {
+      return type instanceof BinaryTagType.Impl<?> ? ((BinaryTagType.Impl<?>) type).type.getSimpleName() : type.toString();
+    }
+
+    private static List<Entry> sorted(final Map<String, EntryImpl> entries) {
+      final List<Entry> sorted = new ArrayList<>(entries.values());
+      sorted.sort((a, b) -> Long.compare(b.bytes(), a.bytes()));
+      return Collections.unmodifiableList(sorted);
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("totalBytes", this.total),
+        ExaminableProperty.of("byKey", this.byKey()),
+        ExaminableProperty.of("byType", this.byType())
+      );
+    }
+
+    @Override
+    public String toString() {
+      return this.examine(StringExaminer.simpleEscaping());
+    }
+  }
+
+  /**
+   * A histogram entry.
+   *
+   * @since 4.10.0
+   */
+  public interface Entry extends Examinable {
+    /**
+     * Gets the key or type name this entry is for.
+     *
+     * @return the name
+     * @since 4.10.0
+     */
+    @NotNull String name();
+
+    /**
+     * Gets the number of tags counted.
+     *
+     * @return the number of tags
+     * @since 4.10.0
+     */
+    long count();
+
+    /**
+     * Gets the estimated size of the tags counted, in bytes.
+     *
+     * @return the size
+     * @since 4.10.0
+     */
+    long bytes();
+
+    @Override
+    default @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+      return Stream.of(
+        ExaminableProperty.of("name", this.name()),
+        ExaminableProperty.of("count", this.count()),
+        ExaminableProperty.of("bytes", this.bytes())
+      );
+    }
+  }
+
+  static final class EntryImpl implements Entry {
+    private final String name;
+    private long count;
+    private long bytes;
+
+    EntryImpl(final String name) {
+      this.name = name;
+    }
+
+    void add(final long bytes) {
+      this.count++;
+      this.bytes += bytes;
+    }
+
+    @Override
+    public @NotNull String name() {
+      return this.name;
+    }
+
+    @Override
+    public long count() {
+      return this.count;
+    }
+
+    @Override
+    public long bytes() {
+      return this.bytes;
+    }
+
+    @Override
+    public String toString() {
+      return this.examine(StringExaminer.simpleEscaping());
+    }
+  }
+}
@@ -72,6 +72,18 @@ final class BinaryTagReaderImpl implements BinaryTagIO.Reader {
     return BinaryTagTypes.COMPOUND.read(input);
   }
 
+  @Override
+  public <T> @NotNull T read(@NotNull DataInput input, final @NotNull BinaryTagBinding<T> binding) throws IOException {
+    if (!(input instanceof TrackingDataInput)) {
+      input = new TrackingDataInput(input, this.maxBytes);
+    }
+
+    final BinaryTagType<? extends BinaryTag> type = BinaryTagType.of(input.readByte());
+    requireCompound(type);
+    input.skipBytes(input.readUnsignedShort()); // read empty name
+    return binding.read(input);
+  }
+
   @Override
   public Map.@NotNull Entry<String, CompoundBinaryTag> readNamed(final @NotNull Path path, final BinaryTagIO.@NotNull Compression compression) throws IOException {
     try(final InputStream is = Files.newInputStream(path)) {
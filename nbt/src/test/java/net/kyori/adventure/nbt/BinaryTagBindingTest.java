@@ -0,0 +1,214 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BinaryTagBindingTest {
+  @Test
+  void testWriteMatchesTree() throws IOException {
+    final Home home = new Home();
+    home.name = "base";
+    home.x = 12;
+    home.y = 64.5;
+    home.shared = true;
+    home.mode = Mode.SURVIVAL;
+    home.tags = Arrays.asList("a", "b");
+    home.owner = new Owner();
+    home.owner.id = new long[] {1, 2};
+
+    final CompoundBinaryTag expected = CompoundBinaryTag.builder()
+      .putString("name", "base")
+      .putInt("x", 12)
+      .putDouble("y", 64.5)
+      .putByte("shared", (byte) 1)
+      .putString("mode", "SURVIVAL")
+      .put("tags", ListBinaryTag.builder(BinaryTagTypes.STRING).add(StringBinaryTag.of("a")).add(StringBinaryTag.of("b")).build())
+      .put("owner", CompoundBinaryTag.builder().putLongArray("id", new long[] {1, 2}).build())
+      .build();
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(home, BinaryTagBinding.of(Home.class), output, BinaryTagIO.Compression.NONE);
+    assertEquals(expected, BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray())));
+  }
+
+  @Test
+  void testReadFromTree() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("name", "base")
+      .putShort("x", (short) 3) // numeric types are converted
+      .putString("unknown", "skipped")
+      .put("tags", ListBinaryTag.builder(BinaryTagTypes.STRING).add(StringBinaryTag.of("c")).build())
+      .build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output, BinaryTagIO.Compression.GZIP);
+
+    final Home home = BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.GZIP, BinaryTagBinding.of(Home.class));
+    assertEquals("base", home.name);
+    assertEquals(3, home.x);
+    assertEquals(1.0, home.y); // left at its initial value
+    assertEquals(Arrays.asList("c"), home.tags);
+    assertNull(home.owner);
+  }
+
+  @Test
+  void testMismatchedType() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder().putInt("name", 1).build();
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tag, output);
+    assertThrows(IOException.class, () -> BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.NONE, BinaryTagBinding.of(Home.class)));
+  }
+
+  @Test
+  void testRoundTripWithTags() throws IOException {
+    final Holder holder = new Holder();
+    holder.data = CompoundBinaryTag.builder().putString("k", "v").build();
+    holder.bytes = new byte[] {1, 2, 3};
+    holder.children = Arrays.asList(new Holder(), new Holder());
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(holder, BinaryTagBinding.of(Holder.class), output, BinaryTagIO.Compression.NONE);
+    final Holder read = BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.NONE, BinaryTagBinding.of(Holder.class));
+    assertEquals(holder.data, read.data);
+    assertArrayEquals(holder.bytes, read.bytes);
+    assertEquals(2, read.children.size());
+  }
+
+  @Test
+  void testUnsupportedType() {
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagBinding.of(Unsupported.class));
+  }
+
+  @Test
+  void testRejectsMixedList() {
+    final Tags mixed = new Tags();
+    mixed.values = Arrays.asList(StringBinaryTag.of("a"), IntBinaryTag.of(1));
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.writer().write(mixed, BinaryTagBinding.of(Tags.class), output, BinaryTagIO.Compression.NONE));
+
+    final Tags withNull = new Tags();
+    withNull.values = Arrays.asList(StringBinaryTag.of("a"), null);
+    assertThrows(IllegalArgumentException.class, () -> BinaryTagIO.writer().write(withNull, BinaryTagBinding.of(Tags.class), output, BinaryTagIO.Compression.NONE));
+  }
+
+  @Test
+  void testWriteUniformTagList() throws IOException {
+    final Tags tags = new Tags();
+    tags.values = Arrays.asList(StringBinaryTag.of("a"), StringBinaryTag.of("b"));
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(tags, BinaryTagBinding.of(Tags.class), output, BinaryTagIO.Compression.NONE);
+    final Tags read = BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.NONE, BinaryTagBinding.of(Tags.class));
+    assertEquals(tags.values, read.values);
+  }
+
+  @Test
+  void testRoundTripRecord() throws Exception {
+    // records cannot be declared in sources targeting Java 8, so compile one when running on 16 or newer
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assumeTrue(compiler != null && recordsSupported(), "records need Java 16 and a compiler");
+    final Path directory = Files.createTempDirectory("adventure-record");
+    final Path source = directory.resolve("Point.java");
+    Files.write(source, Collections.singletonList("public record Point(String name, int x, java.util.List<Integer> values) {}"));
+    assertEquals(0, compiler.run(null, null, null, "-d", directory.toString(), source.toString()));
+    try(final URLClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+      final Class<?> type = loader.loadClass("Point");
+      final Object point = type.getConstructors()[0].newInstance("spawn", 7, Arrays.asList(1, 2));
+      final CompoundBinaryTag expected = CompoundBinaryTag.builder()
+        .putString("name", "spawn")
+        .putInt("x", 7)
+        .put("values", ListBinaryTag.builder(BinaryTagTypes.INT).add(IntBinaryTag.of(1)).add(IntBinaryTag.of(2)).build())
+        .build();
+      assertEquals(expected, roundTrip(type, point));
+    }
+  }
+
+  private static boolean recordsSupported() {
+    try {
+      Class.forName("java.lang.Record");
+      return true;
+    } catch (final ClassNotFoundException ex) {
+      return false;
+    }
+  }
+
+  private static <T> CompoundBinaryTag roundTrip(final Class<T> type, final Object value) throws IOException {
+    final BinaryTagBinding<T> binding = BinaryTagBinding.of(type);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryTagIO.writer().write(type.cast(value), binding, output, BinaryTagIO.Compression.NONE);
+    final T read = BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.NONE, binding);
+    assertEquals(value, read);
+    return BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()));
+  }
+
+  enum Mode {
+    SURVIVAL,
+    CREATIVE
+  }
+
+  static final class Owner {
+    long[] id;
+  }
+
+  static final class Home {
+    String name;
+    int x;
+    double y = 1.0;
+    boolean shared;
+    Mode mode;
+    List<String> tags;
+    Owner owner;
+  }
+
+  static final class Holder {
+    CompoundBinaryTag data;
+    byte[] bytes;
+    List<Holder> children;
+  }
+
+  static final class Tags {
+    List<BinaryTag> values;
+  }
+
+  static final class Unsupported {
+    Object value;
+  }
+}
@@ -26,9 +26,24 @@ package net.kyori.adventure.nbt;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class BinaryTagIOTest {
   @Test
@@ -60,4 +75,80 @@ class BinaryTagIOTest {
     BinaryTagIO.writer().write(tag, output, BinaryTagIO.Compression.ZLIB);
     assertEquals(tag, BinaryTagIO.reader().read(new ByteArrayInputStream(output.toByteArray()), BinaryTagIO.Compression.ZLIB));
   }
+
+  @Test
+  void testWriteAndReadAsync() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("name", "test")
+      .build();
+    final Path directory = Files.createTempDirectory("adventure-nbt");
+    final Path path = directory.resolve("test.dat");
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      BinaryTagIO.writer().writeAsync(tag, path, BinaryTagIO.Compression.GZIP, executor).join();
+      BinaryTagIO.writer().writeAsync(tag.putInt("version", 2), path, BinaryTagIO.Compression.GZIP, executor).join(); // replaces the existing file
+      assertEquals(tag.putInt("version", 2), BinaryTagIO.reader().readAsync(path, BinaryTagIO.Compression.GZIP, executor).join());
+      try(final Stream<Path> files = Files.list(directory)) {
+        assertEquals(1, files.count()); // no temporary files left behind
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testWriteAndReadAsyncSeparateExecutors() throws IOException {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putString("name", "test")
+      .build();
+    final Path path = Files.createTempDirectory("adventure-nbt").resolve("test.dat");
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final AtomicInteger io = new AtomicInteger();
+    final AtomicInteger compute = new AtomicInteger();
+    final Executor ioExecutor = task -> {
+      io.incrementAndGet();
+      executor.execute(task);
+    };
+    final Executor computeExecutor = task -> {
+      compute.incrementAndGet();
+      executor.execute(task);
+    };
+    try {
+      BinaryTagIO.writer().writeAsync(tag, path, BinaryTagIO.Compression.ZLIB, ioExecutor, computeExecutor).join();
+      assertEquals(tag, BinaryTagIO.reader().readAsync(path, BinaryTagIO.Compression.ZLIB, ioExecutor, computeExecutor).join());
+      assertEquals(2, io.get()); // creating the temporary file, and opening the file to read
+      assertEquals(2, compute.get()); // encoding, and decoding
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testWriteAsyncKeepsPermissions() throws IOException {
+    final Path directory = Files.createTempDirectory("adventure-nbt");
+    assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null, "needs POSIX permissions");
+    final Path path = directory.resolve("shared.dat");
+    final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+    Files.createFile(path);
+    Files.setPosixFilePermissions(path, permissions);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      BinaryTagIO.writer().writeAsync(CompoundBinaryTag.empty(), path, BinaryTagIO.Compression.NONE, executor).join();
+      assertEquals(permissions, Files.getPosixFilePermissions(path));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testReadAsyncMissingFile() throws IOException {
+    final Path path = Files.createTempDirectory("adventure-nbt").resolve("missing.dat");
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final CompletionException ex = assertThrows(CompletionException.class, () -> BinaryTagIO.reader().readAsync(path, BinaryTagIO.Compression.NONE, executor).join());
+      assertTrue(ex.getCause() instanceof IOException);
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.nbt;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryTagMemoryTest {
+  @Test
+  void testPrimitiveSizes() {
+    assertEquals(16, BinaryTagMemory.retainedSize(IntBinaryTag.of(4)));
+    assertEquals(24, BinaryTagMemory.retainedSize(LongBinaryTag.of(4)));
+    assertEquals(16 + 24, BinaryTagMemory.retainedSize(IntArrayBinaryTag.of(1, 2)));
+  }
+
+  @Test
+  void testStringSizeDependsOnEncoding() {
+    final long latin1 = BinaryTagMemory.retainedSize(StringBinaryTag.of("abcdefgh"));
+    final long utf16 = BinaryTagMemory.retainedSize(StringBinaryTag.of("世世世世世世世世"));
+    assertEquals(16 + 24 + 24, latin1);
+    assertEquals(16 + 24 + 32, utf16);
+  }
+
+  @Test
+  void testGrowsWithEntries() {
+    final CompoundBinaryTag small = CompoundBinaryTag.builder().putInt("a", 1).build();
+    final CompoundBinaryTag large = small.putString("b", "hello").putLong("c", 3);
+    assertTrue(BinaryTagMemory.retainedSize(large) > BinaryTagMemory.retainedSize(small));
+  }
+
+  @Test
+  void testSharedSubtreesCountedOnce() {
+    final CompoundBinaryTag shared = CompoundBinaryTag.builder().putString("name", "a shared value").build();
+    final ListBinaryTag once = ListBinaryTag.builder().add(shared).build();
+    final ListBinaryTag twice = ListBinaryTag.builder().add(shared).add(shared).build();
+    // the second element only costs its reference slot, which fits in the same array allocation
+    assertEquals(BinaryTagMemory.retainedSize(once), BinaryTagMemory.retainedSize(twice));
+    assertEquals(BinaryTagMemory.retainedSize(shared), BinaryTagMemory.combinedRetainedSize(Arrays.asList(shared, shared)));
+  }
+
+  @Test
+  void testHistogram() {
+    final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+      .putByteArray("big", new byte[1024])
+      .putInt("small", 1)
+      .build();
+    final BinaryTagMemory.Histogram histogram = BinaryTagMemory.histogram().add(tag).add(tag);
+    assertEquals(2 * BinaryTagMemory.retainedSize(tag), histogram.totalBytes());
+
+    final List<BinaryTagMemory.Entry> byKey = histogram.byKey();
+    assertEquals("big", byKey.get(0).name());
+    assertEquals(2, byKey.get(0).count());
+
+    final List<BinaryTagMemory.Entry> byType = histogram.byType();
+    assertEquals("ByteArrayBinaryTag", byType.get(0).name());
+    assertEquals(histogram.totalBytes(), byType.stream().mapToLong(BinaryTagMemory.Entry::bytes).sum());
+  }
+}
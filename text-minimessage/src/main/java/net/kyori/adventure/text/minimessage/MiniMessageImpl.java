@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.minimessage;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -75,6 +76,11 @@ final class MiniMessageImpl implements MiniMessage {
     return MiniMessageSerializer.serialize(component);
   }
 
+  @Override
+  public void serialize(final @NotNull Component component, final @NotNull Appendable output) throws IOException {
+    MiniMessageSerializer.serialize(component, output);
+  }
+
   @Override
   public @NotNull String escapeTokens(final @NotNull String input) {
     return this.parser.escapeTokens(input, this.newContext(input, null));
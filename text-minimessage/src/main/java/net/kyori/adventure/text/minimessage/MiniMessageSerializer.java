@@ -23,12 +23,19 @@
  */
 package net.kyori.adventure.text.minimessage;
 
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentVisitor;
+import net.kyori.adventure.text.EntityNBTComponent;
 import net.kyori.adventure.text.KeybindComponent;
+import net.kyori.adventure.text.ScoreComponent;
+import net.kyori.adventure.text.SelectorComponent;
+import net.kyori.adventure.text.StorageNBTComponent;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.event.ClickEvent;
@@ -54,8 +61,17 @@ final class MiniMessageSerializer {
   }
 
   static @NotNull String serialize(final @NotNull Component component) {
-    final List<ComponentNode> nodes = traverseNode(new ComponentNode(component));
     final StringBuilder sb = new StringBuilder();
+    try {
+      serialize(component, sb);
+    } catch (final IOException e) {
+      throw new IllegalStateException(e); // StringBuilder never throws
+    }
+    return sb.toString();
+  }
+
+  static void serialize(final @NotNull Component component, final @NotNull Appendable sb) throws IOException {
+    final List<ComponentNode> nodes = traverseNode(new ComponentNode(component));
 
     for (int i = 0; i < nodes.size(); i++) {
       // The previous node, null if it doesn't exist.
@@ -70,7 +86,6 @@ final class MiniMessageSerializer {
       // Serialized string for the node.
       sb.append(serializeNode(node, previous, next));
     }
-    return sb.toString();
   }
 
   // Sorts a ComponentNode's tree in a LinkedList using Pre Order Traversal.
@@ -164,11 +179,7 @@ final class MiniMessageSerializer {
     }
 
     // # append text
-    if (node.component() instanceof TextComponent) {
-      sb.append(((TextComponent) node.component()).content());
-    } else {
-      handleDifferentComponent(node.component(), sb);
-    }
+    node.component().accept(ContentAppender.INSTANCE, sb);
 
     // # end tags
     // ### these must be in reverse order to avoid https://github.com/KyoriPowered/adventure-text-minimessage/issues/151
@@ -313,18 +324,63 @@ final class MiniMessageSerializer {
     return ("" + TokenParser.TAG_START) + TokenParser.CLOSE_TAG + content + TokenParser.TAG_END;
   }
 
-  private static void handleDifferentComponent(final @NotNull Component component, final @NotNull StringBuilder sb) {
-    if (component instanceof KeybindComponent) {
-      sb.append(startTag(KeybindTransformation.KEYBIND + TokenParser.SEPARATOR + ((KeybindComponent) component).keybind()));
-    } else if (component instanceof TranslatableComponent) {
+  // appends the content of each type of component, types without a tag to represent them are skipped
+  private static final class ContentAppender implements ComponentVisitor<Void, StringBuilder> {
+    static final ContentAppender INSTANCE = new ContentAppender();
+
+    @Override
+    public Void visitText(final @NotNull TextComponent component, final StringBuilder sb) {
+      sb.append(component.content());
+      return null;
+    }
+
+    @Override
+    public Void visitTranslatable(final @NotNull TranslatableComponent component, final StringBuilder sb) {
       final StringBuilder args = new StringBuilder();
-      for (final Component arg : ((TranslatableComponent) component).args()) {
+      for (final Component arg : component.args()) {
         args.append(TokenParser.SEPARATOR)
           .append("\"")
           .append(serialize(arg).replace("\"", "\\\""))
           .append("\"");
       }
-      sb.append(startTag(TranslatableTransformation.TRANSLATABLE + TokenParser.SEPARATOR + ((TranslatableComponent) component).key() + args));
+      sb.append(startTag(TranslatableTransformation.TRANSLATABLE + TokenParser.SEPARATOR + component.key() + args));
+      return null;
+    }
+
+    @Override
+    public Void visitKeybind(final @NotNull KeybindComponent component, final StringBuilder sb) {
+      sb.append(startTag(KeybindTransformation.KEYBIND + TokenParser.SEPARATOR + component.keybind()));
+      return null;
+    }
+
+    @Override
+    public Void visitScore(final @NotNull ScoreComponent component, final StringBuilder sb) {
+      return null;
+    }
+
+    @Override
+    public Void visitSelector(final @NotNull SelectorComponent component, final StringBuilder sb) {
+      return null;
+    }
+
+    @Override
+    public Void visitBlockNbt(final @NotNull BlockNBTComponent component, final StringBuilder sb) {
+      return null;
+    }
+
+    @Override
+    public Void visitEntityNbt(final @NotNull EntityNBTComponent component, final StringBuilder sb) {
+      return null;
+    }
+
+    @Override
+    public Void visitStorageNbt(final @NotNull StorageNBTComponent component, final StringBuilder sb) {
+      return null;
+    }
+
+    @Override
+    public Void visitUnknown(final @NotNull Component component, final StringBuilder sb) {
+      return null;
     }
   }
 
@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.minimessage;
 
+import java.io.IOException;
 import java.util.UUID;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
@@ -305,5 +306,13 @@ public class MiniMessageSerializerTest extends TestBase {
   private void test(final @NotNull ComponentLike builder, final @NotNull String expected) {
     final String string = MiniMessageSerializer.serialize(builder.asComponent());
     assertEquals(expected, string);
+
+    final StringBuilder appended = new StringBuilder();
+    try {
+      MiniMessage.miniMessage().serialize(builder.asComponent(), appended);
+    } catch (final IOException e) {
+      throw new AssertionError(e);
+    }
+    assertEquals(expected, appended.toString());
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.gson.legacyimpl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A thread-safe cache that evicts least recently used entries once full.
+ *
+ * <p>Entries are spread over independently locked stripes, each evicting on its own,
+ * so that concurrent lookups of different keys rarely wait on each other.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class LruCache<K, V> {
+  private static final int STRIPES = 16; // a power of two
+
+  private final Map<K, V>[] stripes;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  LruCache(final int maxSize) {
+    final int stripeSize = Math.max(1, (maxSize + STRIPES - 1) / STRIPES);
+    this.stripes = new Map[STRIPES];
+    for (int i = 0; i < STRIPES; i++) {
+      this.stripes[i] = new LinkedHashMap<K, V>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+          return this.size() > stripeSize;
+        }
+      };
+    }
+  }
+
+  private Map<K, V> stripe(final Object key) {
+    final int hash = key.hashCode();
+    return this.stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+  }
+
+  @Nullable V get(final K key) {
+    final Map<K, V> stripe = this.stripe(key);
+    synchronized (stripe) {
+      return stripe.get(key);
+    }
+  }
+
+  V put(final K key, final V value) {
+    final Map<K, V> stripe = this.stripe(key);
+    synchronized (stripe) {
+      stripe.put(key, value);
+    }
+    return value;
+  }
+}
@@ -41,6 +41,7 @@ final class NBTLegacyHoverEventSerializerImpl implements LegacyHoverEventSeriali
   static final NBTLegacyHoverEventSerializerImpl INSTANCE = new NBTLegacyHoverEventSerializerImpl();
   private static final TagStringIO SNBT_IO = TagStringIO.get();
   private static final Codec<CompoundBinaryTag, String, IOException, IOException> SNBT_CODEC = Codec.of(SNBT_IO::asCompound, SNBT_IO::asString);
+  private static final int CACHE_SIZE = 512;
 
   static final String ITEM_TYPE = "id";
   static final String ITEM_COUNT = "Count";
@@ -50,25 +51,124 @@ final class NBTLegacyHoverEventSerializerImpl implements LegacyHoverEventSeriali
   static final String ENTITY_TYPE = "type";
   static final String ENTITY_ID = "id";
 
+  // legacy clients send and receive the same few payloads over and over, so the results of parsing and emitting SNBT are cached
+  private final LruCache<String, HoverEvent.ShowItem> decodedItems = new LruCache<>(CACHE_SIZE);
+  private final LruCache<String, CompoundBinaryTag> decodedEntities = new LruCache<>(CACHE_SIZE);
+  private final LruCache<HoverEvent.ShowItem, Component> encodedItems = new LruCache<>(CACHE_SIZE);
+  private final LruCache<HoverEvent.ShowEntity, Component> encodedEntities = new LruCache<>(CACHE_SIZE);
+
   private NBTLegacyHoverEventSerializerImpl() {
   }
 
   @Override
   public HoverEvent.@NotNull ShowItem deserializeShowItem(final @NotNull Component input) throws IOException {
     assertTextComponent(input);
-    final CompoundBinaryTag contents = SNBT_CODEC.decode(((TextComponent) input).content());
-    final CompoundBinaryTag tag = contents.getCompound(ITEM_TAG);
-    return HoverEvent.ShowItem.of(
-      Key.key(contents.getString(ITEM_TYPE)),
-      contents.getByte(ITEM_COUNT, (byte) 1),
-      tag == CompoundBinaryTag.empty() ? null : BinaryTagHolder.encode(tag, SNBT_CODEC)
-    );
+    final String content = ((TextComponent) input).content();
+    final HoverEvent.@Nullable ShowItem cached = this.decodedItems.get(content);
+    if (cached != null) return cached;
+    HoverEvent.@Nullable ShowItem item = parseSimpleShowItem(content);
+    if (item == null) {
+      final CompoundBinaryTag contents = SNBT_CODEC.decode(content);
+      final CompoundBinaryTag tag = contents.getCompound(ITEM_TAG);
+      item = HoverEvent.ShowItem.of(
+        Key.key(contents.getString(ITEM_TYPE)),
+        contents.getByte(ITEM_COUNT, (byte) 1),
+        tag == CompoundBinaryTag.empty() ? null : BinaryTagHolder.encode(tag, SNBT_CODEC)
+      );
+    }
+    return this.decodedItems.put(content, item);
+  }
+
+  /*
+   * Parses the common case of an item with only an id and a count, such as {id:"minecraft:stone",Count:1b},
+   * without going through the full SNBT parser. Anything else is left to the full parser by returning null.
+   */
+  static HoverEvent.@Nullable ShowItem parseSimpleShowItem(final String content) {
+    final int length = content.length();
+    if (length < 2 || content.charAt(0) != '{' || content.charAt(length - 1) != '}') return null;
+    @Nullable String id = null;
+    int count = 1;
+    boolean hasCount = false;
+    int index = 1;
+    boolean expectEntry = false;
+    while (true) {
+      index = skipWhitespace(content, index);
+      if (index >= length - 1) {
+        if (expectEntry) return null; // trailing comma
+        break;
+      }
+      final int keyStart = index;
+      while (index < length && isUnquotedChar(content.charAt(index))) index++;
+      final String key = content.substring(keyStart, index);
+      index = skipWhitespace(content, index);
+      if (index >= length || content.charAt(index) != ':') return null;
+      index = skipWhitespace(content, index + 1);
+      if (ITEM_TYPE.equals(key) && id == null) {
+        final int valueStart;
+        final int valueEnd;
+        if (index < length && content.charAt(index) == '"') {
+          valueStart = index + 1;
+          valueEnd = content.indexOf('"', valueStart);
+          if (valueEnd == -1 || content.lastIndexOf('\\', valueEnd) >= valueStart) return null;
+          index = valueEnd + 1;
+        } else {
+          valueStart = index;
+          while (index < length && isUnquotedChar(content.charAt(index))) index++;
+          valueEnd = index;
+        }
+        if (valueStart == valueEnd) return null;
+        id = content.substring(valueStart, valueEnd);
+      } else if (ITEM_COUNT.equals(key) && !hasCount) {
+        final int valueStart = index;
+        if (index < length && content.charAt(index) == '-') index++;
+        while (index < length && index - valueStart < 4 && Character.isDigit(content.charAt(index))) index++;
+        if (index == valueStart || !Character.isDigit(content.charAt(index - 1))) return null;
+        final int value = Integer.parseInt(content.substring(valueStart, index));
+        if (index < length) {
+          final char suffix = content.charAt(index);
+          if (suffix == 'b' || suffix == 'B') {
+            if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) return null;
+            index++;
+          } else if (suffix == 's' || suffix == 'S' || suffix == 'l' || suffix == 'L') {
+            index++;
+          }
+        }
+        count = (byte) value;
+        hasCount = true;
+      } else {
+        return null;
+      }
+      index = skipWhitespace(content, index);
+      if (index < length - 1) {
+        if (content.charAt(index) != ',') return null;
+        index++;
+        expectEntry = true;
+      } else {
+        expectEntry = false;
+      }
+    }
+    if (id == null) return null;
+    return HoverEvent.ShowItem.of(Key.key(id), count);
+  }
+
+  private static int skipWhitespace(final String content, final int start) {
+    int index = start;
+    while (index < content.length() && Character.isWhitespace(content.charAt(index))) index++;
+    return index;
+  }
+
+  private static boolean isUnquotedChar(final char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-' || c == '.' || c == '+';
   }
 
   @Override
   public HoverEvent.@NotNull ShowEntity deserializeShowEntity(final @NotNull Component input, final Codec.Decoder<Component, String, ? extends RuntimeException> componentCodec) throws IOException {
     assertTextComponent(input);
-    final CompoundBinaryTag contents = SNBT_CODEC.decode(((TextComponent) input).content());
+    final String content = ((TextComponent) input).content();
+    @Nullable CompoundBinaryTag contents = this.decodedEntities.get(content);
+    if (contents == null) {
+      contents = this.decodedEntities.put(content, SNBT_CODEC.decode(content));
+    }
     return HoverEvent.ShowEntity.of(
       Key.key(contents.getString(ENTITY_TYPE)),
       UUID.fromString(contents.getString(ENTITY_ID)),
@@ -84,6 +184,8 @@ final class NBTLegacyHoverEventSerializerImpl implements LegacyHoverEventSeriali
 
   @Override
   public @NotNull Component serializeShowItem(final HoverEvent.@NotNull ShowItem input) throws IOException {
+    final @Nullable Component cached = this.encodedItems.get(input);
+    if (cached != null) return cached;
     final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder()
       .putString(ITEM_TYPE, input.item().asString())
       .putByte(ITEM_COUNT, (byte) input.count());
@@ -91,18 +193,24 @@ final class NBTLegacyHoverEventSerializerImpl implements LegacyHoverEventSeriali
     if (nbt != null) {
       builder.put(ITEM_TAG, nbt.get(SNBT_CODEC));
     }
-    return Component.text(SNBT_CODEC.encode(builder.build()));
+    return this.encodedItems.put(input, Component.text(SNBT_CODEC.encode(builder.build())));
   }
 
   @Override
   public @NotNull Component serializeShowEntity(final HoverEvent.@NotNull ShowEntity input, final Codec.Encoder<Component, String, ? extends RuntimeException> componentCodec) throws IOException {
+    final @Nullable Component name = input.name();
+    if (name == null) {
+      // without a name, the result does not depend on the component encoder
+      final @Nullable Component cached = this.encodedEntities.get(input);
+      if (cached != null) return cached;
+    }
     final CompoundBinaryTag.Builder builder = CompoundBinaryTag.builder()
       .putString(ENTITY_ID, input.id().toString())
       .putString(ENTITY_TYPE, input.type().asString());
-    final @Nullable Component name = input.name();
     if (name != null) {
       builder.putString(ENTITY_NAME, componentCodec.encode(name));
+      return Component.text(SNBT_CODEC.encode(builder.build()));
     }
-    return Component.text(SNBT_CODEC.encode(builder.build()));
+    return this.encodedEntities.put(input, Component.text(SNBT_CODEC.encode(builder.build())));
   }
 }
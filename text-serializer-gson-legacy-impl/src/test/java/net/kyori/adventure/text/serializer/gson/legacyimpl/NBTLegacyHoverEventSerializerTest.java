@@ -0,0 +1,74 @@
+/*
+ * This file is part of adventure, licensed under the MIT License.
+ *
+ * Copyright (c) 2017-2021 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.adventure.text.serializer.gson.legacyimpl;
+
+import java.io.IOException;
+import java.util.UUID;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.api.BinaryTagHolder;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.serializer.gson.LegacyHoverEventSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class NBTLegacyHoverEventSerializerTest {
+  private static final LegacyHoverEventSerializer SERIALIZER = NBTLegacyHoverEventSerializer.get();
+
+  @Test
+  void testSimpleShowItem() throws IOException {
+    final HoverEvent.ShowItem expected = HoverEvent.ShowItem.of(Key.key("stone"), 3);
+    assertEquals(expected, NBTLegacyHoverEventSerializerImpl.parseSimpleShowItem("{id:\"minecraft:stone\",Count:3b}"));
+    assertEquals(expected, NBTLegacyHoverEventSerializerImpl.parseSimpleShowItem("{ Count: 3b, id: stone }"));
+    assertEquals(expected, SERIALIZER.deserializeShowItem(Component.text("{id:\"minecraft:stone\",Count:3b}")));
+    assertEquals(HoverEvent.ShowItem.of(Key.key("stone"), 1), SERIALIZER.deserializeShowItem(Component.text("{id:\"minecraft:stone\"}")));
+  }
+
+  @Test
+  void testComplexShowItemUsesFullParser() throws IOException {
+    assertNull(NBTLegacyHoverEventSerializerImpl.parseSimpleShowItem("{id:\"minecraft:stone\",Count:3b,tag:{Damage:1}}"));
+    assertNull(NBTLegacyHoverEventSerializerImpl.parseSimpleShowItem("{id:\"minecraft:stone\",}"));
+    assertNull(NBTLegacyHoverEventSerializerImpl.parseSimpleShowItem("{id:\"mine\\\"craft\"}"));
+    final HoverEvent.ShowItem item = SERIALIZER.deserializeShowItem(Component.text("{id:\"minecraft:stone\",Count:3b,tag:{Damage:1}}"));
+    assertEquals(HoverEvent.ShowItem.of(Key.key("stone"), 3, BinaryTagHolder.of("{Damage:1}")), item);
+  }
+
+  @Test
+  void testShowItemRoundTrip() throws IOException {
+    final HoverEvent.ShowItem item = HoverEvent.ShowItem.of(Key.key("diamond"), 5, BinaryTagHolder.of("{Damage:2}"));
+    final Component serialized = SERIALIZER.serializeShowItem(item);
+    assertSame(serialized, SERIALIZER.serializeShowItem(item)); // cached
+    assertEquals(item, SERIALIZER.deserializeShowItem(serialized));
+  }
+
+  @Test
+  void testShowEntityRoundTrip() throws IOException {
+    final HoverEvent.ShowEntity entity = HoverEvent.ShowEntity.of(Key.key("pig"), UUID.randomUUID(), Component.text("Piggy"));
+    final Component serialized = SERIALIZER.serializeShowEntity(entity, Component::toString);
+    assertEquals(entity, SERIALIZER.deserializeShowEntity(serialized, string -> Component.text("Piggy")));
+  }
+}
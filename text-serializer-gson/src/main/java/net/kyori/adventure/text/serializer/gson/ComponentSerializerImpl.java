@@ -33,6 +33,7 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +43,7 @@ import net.kyori.adventure.text.BlockNBTComponent;
 import net.kyori.adventure.text.BuildableComponent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentBuilder;
+import net.kyori.adventure.text.ComponentVisitor;
 import net.kyori.adventure.text.EntityNBTComponent;
 import net.kyori.adventure.text.KeybindComponent;
 import net.kyori.adventure.text.NBTComponent;
@@ -51,6 +53,7 @@ import net.kyori.adventure.text.SelectorComponent;
 import net.kyori.adventure.text.StorageNBTComponent;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslatableComponent;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 final class ComponentSerializerImpl extends TypeAdapter<Component> {
@@ -78,6 +81,7 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
   }
 
   private final Gson gson;
+  private final ContentWriter contentWriter = new ContentWriter();
 
   private ComponentSerializerImpl(final Gson gson) {
     this.gson = gson;
@@ -254,59 +258,10 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
       this.gson.toJson(value.children(), COMPONENT_LIST_TYPE, out);
     }
 
-    if (value instanceof TextComponent) {
-      out.name(TEXT);
-      out.value(((TextComponent) value).content());
-    } else if (value instanceof TranslatableComponent) {
-      final TranslatableComponent translatable = (TranslatableComponent) value;
-      out.name(TRANSLATE);
-      out.value(translatable.key());
-      if (!translatable.args().isEmpty()) {
-        out.name(TRANSLATE_WITH);
-        this.gson.toJson(translatable.args(), COMPONENT_LIST_TYPE, out);
-      }
-    } else if (value instanceof ScoreComponent) {
-      final ScoreComponent score = (ScoreComponent) value;
-      out.name(SCORE);
-      out.beginObject();
-      out.name(SCORE_NAME);
-      out.value(score.name());
-      out.name(SCORE_OBJECTIVE);
-      out.value(score.objective());
-      if (score.value() != null) {
-        out.name(SCORE_VALUE);
-        out.value(score.value());
-      }
-      out.endObject();
-    } else if (value instanceof SelectorComponent) {
-      final SelectorComponent selector = (SelectorComponent) value;
-      out.name(SELECTOR);
-      out.value(selector.pattern());
-      this.serializeSeparator(out, selector.separator());
-    } else if (value instanceof KeybindComponent) {
-      out.name(KEYBIND);
-      out.value(((KeybindComponent) value).keybind());
-    } else if (value instanceof NBTComponent) {
-      final NBTComponent<?, ?> nbt = (NBTComponent<?, ?>) value;
-      out.name(NBT);
-      out.value(nbt.nbtPath());
-      out.name(NBT_INTERPRET);
-      out.value(nbt.interpret());
-      this.serializeSeparator(out, nbt.separator());
-      if (value instanceof BlockNBTComponent) {
-        out.name(NBT_BLOCK);
-        this.gson.toJson(((BlockNBTComponent) value).pos(), SerializerFactory.BLOCK_NBT_POS_TYPE, out);
-      } else if (value instanceof EntityNBTComponent) {
-        out.name(NBT_ENTITY);
-        out.value(((EntityNBTComponent) value).selector());
-      } else if (value instanceof StorageNBTComponent) {
-        out.name(NBT_STORAGE);
-        this.gson.toJson(((StorageNBTComponent) value).storage(), SerializerFactory.KEY_TYPE, out);
-      } else {
-        throw notSureHowToSerialize(value);
-      }
-    } else {
-      throw notSureHowToSerialize(value);
+    try {
+      value.accept(this.contentWriter, out);
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
     }
 
     out.endObject();
@@ -326,4 +281,125 @@ final class ComponentSerializerImpl extends TypeAdapter<Component> {
   private static IllegalArgumentException notSureHowToSerialize(final Component component) {
     return new IllegalArgumentException("Don't know how to serialize " + component + " as a Component");
   }
+
+  // writes the fields specific to each type of component, smuggling I/O failures out as unchecked exceptions
+  private final class ContentWriter implements ComponentVisitor<Void, JsonWriter> {
+    @Override
+    public Void visitText(final @NotNull TextComponent component, final JsonWriter out) {
+      try {
+        out.name(TEXT);
+        out.value(component.content());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitTranslatable(final @NotNull TranslatableComponent component, final JsonWriter out) {
+      try {
+        out.name(TRANSLATE);
+        out.value(component.key());
+        if (!component.args().isEmpty()) {
+          out.name(TRANSLATE_WITH);
+          ComponentSerializerImpl.this.gson.toJson(component.args(), COMPONENT_LIST_TYPE, out);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitKeybind(final @NotNull KeybindComponent component, final JsonWriter out) {
+      try {
+        out.name(KEYBIND);
+        out.value(component.keybind());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitScore(final @NotNull ScoreComponent component, final JsonWriter out) {
+      try {
+        out.name(SCORE);
+        out.beginObject();
+        out.name(SCORE_NAME);
+        out.value(component.name());
+        out.name(SCORE_OBJECTIVE);
+        out.value(component.objective());
+        if (component.value() != null) {
+          out.name(SCORE_VALUE);
+          out.value(component.value());
+        }
+        out.endObject();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitSelector(final @NotNull SelectorComponent component, final JsonWriter out) {
+      try {
+        out.name(SELECTOR);
+        out.value(component.pattern());
+        ComponentSerializerImpl.this.serializeSeparator(out, component.separator());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitBlockNbt(final @NotNull BlockNBTComponent component, final JsonWriter out) {
+      try {
+        this.writeNbt(component, out);
+        out.name(NBT_BLOCK);
+        ComponentSerializerImpl.this.gson.toJson(component.pos(), SerializerFactory.BLOCK_NBT_POS_TYPE, out);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitEntityNbt(final @NotNull EntityNBTComponent component, final JsonWriter out) {
+      try {
+        this.writeNbt(component, out);
+        out.name(NBT_ENTITY);
+        out.value(component.selector());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitStorageNbt(final @NotNull StorageNBTComponent component, final JsonWriter out) {
+      try {
+        this.writeNbt(component, out);
+        out.name(NBT_STORAGE);
+        ComponentSerializerImpl.this.gson.toJson(component.storage(), SerializerFactory.KEY_TYPE, out);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return null;
+    }
+
+    @Override
+    public Void visitUnknown(final @NotNull Component component, final JsonWriter out) {
+      throw notSureHowToSerialize(component);
+    }
+
+    private void writeNbt(final NBTComponent<?, ?> nbt, final JsonWriter out) throws IOException {
+      out.name(NBT);
+      out.value(nbt.nbtPath());
+      out.name(NBT_INTERPRET);
+      out.value(nbt.interpret());
+      ComponentSerializerImpl.this.serializeSeparator(out, nbt.separator());
+    }
+  }
 }
@@ -29,7 +29,7 @@ import com.google.gson.JsonElement;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.ComponentSerializer;
+import net.kyori.adventure.text.serializer.StringComponentSerializer;
 import net.kyori.adventure.util.Buildable;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -43,7 +43,7 @@ import org.jetbrains.annotations.Nullable;
  *
  * @since 4.0.0
  */
-public interface GsonComponentSerializer extends ComponentSerializer<Component, Component, String>, Buildable<GsonComponentSerializer, GsonComponentSerializer.Builder> {
+public interface GsonComponentSerializer extends StringComponentSerializer<Component, Component>, Buildable<GsonComponentSerializer, GsonComponentSerializer.Builder> {
   /**
    * Gets a component serializer for gson serialization and deserialization.
    *
@@ -26,6 +26,8 @@ package net.kyori.adventure.text.serializer.gson;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
@@ -99,6 +101,16 @@ final class GsonComponentSerializerImpl implements GsonComponentSerializer {
     return this.serializer().toJson(component);
   }
 
+  @Override
+  public void serialize(final @NotNull Component component, final @NotNull Appendable output) throws IOException {
+    try {
+      this.serializer().toJson(component, output);
+    } catch (final JsonIOException e) {
+      if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+      throw e;
+    }
+  }
+
   @Override
   public @NotNull Component deserializeFromTree(final @NotNull JsonElement input) {
     final Component component = this.serializer().fromJson(input, Component.class);
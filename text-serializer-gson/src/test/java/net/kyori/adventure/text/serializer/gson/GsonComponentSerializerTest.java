@@ -26,6 +26,11 @@ package net.kyori.adventure.text.serializer.gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
@@ -34,6 +39,7 @@ import org.junit.jupiter.api.Test;
 
 import static net.kyori.adventure.text.serializer.gson.GsonTest.array;
 import static net.kyori.adventure.text.serializer.gson.GsonTest.object;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -93,4 +99,41 @@ class GsonComponentSerializerTest {
   private static String name(final NamedTextColor color) {
     return NamedTextColor.NAMES.key(color);
   }
+
+  @Test
+  void testSerializeToAppendable() throws IOException {
+    final Component test = Component.text().content("héllo").append(Component.text("☃", NamedTextColor.AQUA)).build();
+    final String expected = GsonComponentSerializer.gson().serialize(test);
+
+    final StringBuilder sb = new StringBuilder("> ");
+    GsonComponentSerializer.gson().serialize(test, sb);
+    assertEquals("> " + expected, sb.toString());
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GsonComponentSerializer.gson().serializeUtf8(test, bytes);
+    assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+
+    // a PrintStream is both an Appendable and an OutputStream
+    final ByteArrayOutputStream printed = new ByteArrayOutputStream();
+    try(final PrintStream stream = new PrintStream(printed, true, "UTF-8")) {
+      GsonComponentSerializer.gson().serialize(test, stream);
+    }
+    assertEquals(expected, new String(printed.toByteArray(), StandardCharsets.UTF_8));
+
+    final Writer failing = new Writer() {
+      @Override
+      public void write(final char[] buffer, final int offset, final int length) throws IOException {
+        throw new IOException("closed");
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    assertThrows(IOException.class, () -> GsonComponentSerializer.gson().serialize(test, failing));
+  }
 }
@@ -30,8 +30,9 @@ import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.flattener.StyledText;
 import net.kyori.adventure.text.format.Style;
-import net.kyori.adventure.text.serializer.ComponentSerializer;
+import net.kyori.adventure.text.serializer.StringComponentSerializer;
 import net.kyori.adventure.util.Buildable;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -45,7 +46,7 @@ import org.jetbrains.annotations.Nullable;
  *
  * @since 4.0.0
  */
-public interface LegacyComponentSerializer extends ComponentSerializer<Component, TextComponent, String>, Buildable<LegacyComponentSerializer, LegacyComponentSerializer.Builder> {
+public interface LegacyComponentSerializer extends StringComponentSerializer<Component, TextComponent>, Buildable<LegacyComponentSerializer, LegacyComponentSerializer.Builder> {
   /**
    * Gets a component serializer for legacy-based serialization and deserialization. Note that this
    * serializer works exactly like vanilla Minecraft and does not detect any links. If you want to
@@ -152,6 +153,20 @@ public interface LegacyComponentSerializer extends ComponentSerializer<Component
   @Override
   @NotNull String serialize(final @NotNull Component component);
 
+  /**
+   * Serializes already flattened styled text into a legacy {@link String}.
+   *
+   * <p>This skips flattening, so suits text that has been cut to length with
+   * {@link StyledText#truncate(int)} or {@link StyledText#substring(int, int)}.</p>
+   *
+   * @param text the styled text
+   * @return the string
+   * @since 4.10.0
+   */
+  default @NotNull String serialize(final @NotNull StyledText text) {
+    return this.serialize(text.asComponent());
+  }
+
   /**
    * A builder for {@link LegacyComponentSerializer}.
    *
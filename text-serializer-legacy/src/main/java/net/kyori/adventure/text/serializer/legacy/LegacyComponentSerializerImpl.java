@@ -23,6 +23,8 @@
  */
 package net.kyori.adventure.text.serializer.legacy;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,6 +42,7 @@ import net.kyori.adventure.text.TextReplacementConfig;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
 import net.kyori.adventure.text.flattener.FlattenerListener;
+import net.kyori.adventure.text.flattener.StyledText;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextColor;
@@ -302,9 +305,25 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
 
   @Override
   public @NotNull String serialize(final @NotNull Component component) {
-    final Cereal state = new Cereal();
-    this.flattener.flatten(component, state);
-    return state.toString();
+    final StringBuilder sb = new StringBuilder();
+    this.flattener.flatten(component, new Cereal(sb));
+    return sb.toString();
+  }
+
+  @Override
+  public void serialize(final @NotNull Component component, final @NotNull Appendable output) throws IOException {
+    try {
+      this.flattener.flatten(component, new Cereal(requireNonNull(output, "output")));
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Override
+  public @NotNull String serialize(final @NotNull StyledText text) {
+    final StringBuilder sb = new StringBuilder();
+    requireNonNull(text, "text").flatten(new Cereal(sb));
+    return sb.toString();
   }
 
   private static boolean applyFormat(final TextComponent.@NotNull Builder builder, final @NotNull TextFormat format) {
@@ -331,12 +350,16 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
 
   // Are you hungry?
   private final class Cereal implements FlattenerListener {
-    private final StringBuilder sb = new StringBuilder();
+    private final Appendable sb;
     private final StyleState style = new StyleState();
     private @Nullable TextFormat lastWritten;
     private StyleState[] styles = new StyleState[8];
     private int head = -1;
 
+    Cereal(final Appendable sb) {
+      this.sb = sb;
+    }
+
     @Override
     public void pushStyle(final @NotNull Style pushed) {
       final int idx = ++this.head;
@@ -366,7 +389,7 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
         if (this.head < 0) throw new IllegalStateException("No style has been pushed!");
 
         this.styles[this.head].applyFormat();
-        this.sb.append(text);
+        this.write(text);
       }
     }
 
@@ -379,14 +402,22 @@ final class LegacyComponentSerializerImpl implements LegacyComponentSerializer {
 
     void append(final @NotNull TextFormat format) {
       if (this.lastWritten != format) {
-        this.sb.append(LegacyComponentSerializerImpl.this.character).append(LegacyComponentSerializerImpl.this.toLegacyCode(format));
+        try {
+          this.sb.append(LegacyComponentSerializerImpl.this.character).append(LegacyComponentSerializerImpl.this.toLegacyCode(format));
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
       }
       this.lastWritten = format;
     }
 
-    @Override
-    public String toString() {
-      return this.sb.toString();
+    // listener callbacks cannot throw checked exceptions, so failures are unwrapped again by serialize
+    private void write(final @NotNull String text) {
+      try {
+        this.sb.append(text);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
     }
 
     private final class StyleState {
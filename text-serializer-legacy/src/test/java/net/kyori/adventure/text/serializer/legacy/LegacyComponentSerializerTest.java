@@ -23,8 +23,11 @@
  */
 package net.kyori.adventure.text.serializer.legacy;
 
+import java.io.IOException;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.flattener.StyledText;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextColor;
@@ -318,4 +321,29 @@ class LegacyComponentSerializerTest {
 
     assertEquals(Component.text(text), deserialized);
   }
+
+  @Test
+  void testSerializeStyledText() {
+    final Component component = Component.text()
+      .content("Hello ")
+      .color(NamedTextColor.GREEN)
+      .append(Component.text("bold world", Style.style(TextDecoration.BOLD)))
+      .build();
+    final StyledText text = ComponentFlattener.basic().styledText(component);
+
+    assertEquals("&aHello &lbold world", LegacyComponentSerializer.legacyAmpersand().serialize(text));
+    assertEquals("&aHello &lbo", LegacyComponentSerializer.legacyAmpersand().serialize(text.truncate(8)));
+  }
+
+  @Test
+  void testSerializeToAppendable() throws IOException {
+    final Component component = Component.text()
+      .content("Hello ")
+      .color(NamedTextColor.GREEN)
+      .append(Component.text("world", Style.style(TextDecoration.BOLD)))
+      .build();
+    final StringBuilder sb = new StringBuilder();
+    LegacyComponentSerializer.legacyAmpersand().serialize(component, sb);
+    assertEquals(LegacyComponentSerializer.legacyAmpersand().serialize(component), sb.toString());
+  }
 }
@@ -29,7 +29,7 @@ import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.flattener.ComponentFlattener;
-import net.kyori.adventure.text.serializer.ComponentSerializer;
+import net.kyori.adventure.text.serializer.StringComponentSerializer;
 import net.kyori.adventure.util.Buildable;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -42,7 +42,7 @@ import org.jetbrains.annotations.NotNull;
  *
  * @since 4.8.0
  */
-public interface PlainTextComponentSerializer extends ComponentSerializer<Component, TextComponent, String>, Buildable<PlainTextComponentSerializer, PlainTextComponentSerializer.Builder> {
+public interface PlainTextComponentSerializer extends StringComponentSerializer<Component, TextComponent>, Buildable<PlainTextComponentSerializer, PlainTextComponentSerializer.Builder> {
   /**
    * A component serializer for plain-based serialization and deserialization.
    *
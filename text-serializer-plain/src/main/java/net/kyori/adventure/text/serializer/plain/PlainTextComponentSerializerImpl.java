@@ -23,6 +23,8 @@
  */
 package net.kyori.adventure.text.serializer.plain;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import java.util.function.Consumer;
 import net.kyori.adventure.text.Component;
@@ -62,6 +64,22 @@ final class PlainTextComponentSerializerImpl implements PlainTextComponentSerial
     this.flattener.flatten(requireNonNull(component, "component"), sb::append);
   }
 
+  @Override
+  public void serialize(final @NotNull Component component, final @NotNull Appendable output) throws IOException {
+    requireNonNull(output, "output");
+    try {
+      this.flattener.flatten(requireNonNull(component, "component"), text -> {
+        try {
+          output.append(text);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (final UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   @Override
   public @NotNull Builder toBuilder() {
     return new BuilderImpl(this);
@@ -23,6 +23,7 @@
  */
 package net.kyori.adventure.text.serializer.plain;
 
+import java.io.IOException;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -68,4 +69,12 @@ class PlainTextComponentSerializerTest {
       .build();
     assertEquals("Hello there, you!", PlainTextComponentSerializer.plainText().serialize(c2));
   }
+
+  @Test
+  void testSerializeToAppendable() throws IOException {
+    final Component component = Component.text().content("Hello ").append(Component.text("world", NamedTextColor.RED), Component.keybind("key.jump")).build();
+    final StringBuilder sb = new StringBuilder();
+    PlainTextComponentSerializer.plainText().serialize(component, (Appendable) sb);
+    assertEquals("Hello worldkey.jump", sb.toString());
+  }
 }